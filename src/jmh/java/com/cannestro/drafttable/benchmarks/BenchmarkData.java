@@ -0,0 +1,84 @@
+package com.cannestro.drafttable.benchmarks;
+
+import com.cannestro.drafttable.core.rows.Mappable;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.map.MapBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Deterministic tables shared by the benchmarks, so that numbers are comparable from one run to the next.
+ */
+final class BenchmarkData {
+
+    static final String ID = "id";
+    static final String VALUE = "value";
+    static final String CATEGORY = "category";
+    static final String LABEL = "label";
+
+    private static final long SEED = 42L;
+    private static final int CATEGORIES = 16;
+
+    private BenchmarkData() {}
+
+    /**
+     * @param rows The number of rows
+     * @return A table with an integer id, a uniformly distributed double value in [0, 1), a low cardinality string
+     *         category and a unique string label
+     */
+    static DraftTable typedTable(int rows) {
+        Random random = new Random(SEED);
+        List<Integer> ids = new ArrayList<>(rows);
+        List<Double> values = new ArrayList<>(rows);
+        List<String> categories = new ArrayList<>(rows);
+        List<String> labels = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(i);
+            values.add(random.nextDouble());
+            categories.add("category-" + random.nextInt(CATEGORIES));
+            labels.add("label-" + i);
+        }
+        return FlexibleDraftTable.create().fromColumnValues(
+                List.of(ID, VALUE, CATEGORY, LABEL),
+                List.of(ids, values, categories, labels)
+        );
+    }
+
+    /**
+     * @param rows The number of rows
+     * @return The same table as {@link #typedTable(int)} with every value rendered as a string, as a schema-less CSV
+     *         load would produce
+     */
+    static DraftTable textTable(int rows) {
+        DraftTable typedTable = typedTable(rows);
+        return FlexibleDraftTable.create().fromColumns(
+                typedTable.columns().stream()
+                        .map(column -> column.transform(column.label(), String::valueOf))
+                        .toList()
+        );
+    }
+
+
+    /**
+     * The JSON schema of a row of {@link #typedTable(int)}.
+     */
+    record BenchmarkRecord(Integer id, Double value, String category, String label) implements Mappable {
+
+        @Override
+        public Map<String, ?> asMap() {
+            return MapBuilder.with()
+                    .entry(ID, id)
+                    .entry(VALUE, value)
+                    .entry(CATEGORY, category)
+                    .entry(LABEL, label)
+                    .asMap();
+        }
+
+    }
+
+}
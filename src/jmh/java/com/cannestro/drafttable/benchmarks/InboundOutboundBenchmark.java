@@ -0,0 +1,78 @@
+package com.cannestro.drafttable.benchmarks;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.cannestro.drafttable.benchmarks.BenchmarkData.*;
+
+
+/**
+ * Benchmarks of loading tables from, and writing tables to, CSV and JSON files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InboundOutboundBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private Path directory;
+    private Path csvInput;
+    private Path jsonInput;
+    private File csvOutput;
+    private File jsonOutput;
+    private DraftTable textTable;
+    private DraftTable typedTable;
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("drafttable-benchmarks");
+        csvInput = directory.resolve("input.csv");
+        jsonInput = directory.resolve("input.json");
+        csvOutput = directory.resolve("output.csv").toFile();
+        jsonOutput = directory.resolve("output.json").toFile();
+        textTable = textTable(rows);
+        typedTable = typedTable(rows);
+        textTable.write().toCsv(csvInput.toFile());
+        typedTable.write().toJson(jsonInput.toFile());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path path : new Path[]{csvInput, jsonInput, csvOutput.toPath(), jsonOutput.toPath(), directory}) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public DraftTable loadCsv() {
+        return FlexibleDraftTable.create().fromCsv().at(csvInput);
+    }
+
+    @Benchmark
+    public DraftTable loadJson() {
+        return FlexibleDraftTable.create().fromJsonArray().at(jsonInput, BenchmarkRecord.class);
+    }
+
+    @Benchmark
+    public File writeCsv() {
+        textTable.write().toCsv(csvOutput);
+        return csvOutput;
+    }
+
+    @Benchmark
+    public File writeJson() {
+        typedTable.write().toJson(jsonOutput);
+        return jsonOutput;
+    }
+
+}
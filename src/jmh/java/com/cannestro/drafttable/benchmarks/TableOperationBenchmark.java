@@ -0,0 +1,75 @@
+package com.cannestro.drafttable.benchmarks;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.Columns;
+import com.cannestro.drafttable.core.rows.Row;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.cannestro.drafttable.benchmarks.BenchmarkData.*;
+import static com.cannestro.drafttable.core.options.SortingOrderType.ASCENDING;
+import static org.hamcrest.Matchers.greaterThan;
+
+
+/**
+ * Benchmarks of the core in-memory {@code DraftTable} operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableOperationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private DraftTable table;
+    private Column extraColumn;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = typedTable(rows);
+        extraColumn = Columns.bestFitFor("extra", Collections.nCopies(rows, 1L));
+    }
+
+    @Benchmark
+    public DraftTable where() {
+        return table.where(VALUE, greaterThan(0.5));
+    }
+
+    @Benchmark
+    public DraftTable orderBy() {
+        return table.orderBy(VALUE, ASCENDING);
+    }
+
+    @Benchmark
+    public DraftTable groupBy() {
+        return table.select(CATEGORY).group().byCountsOf(Function.identity());
+    }
+
+    @Benchmark
+    public DraftTable append() {
+        return table.append(table);
+    }
+
+    @Benchmark
+    public DraftTable add() {
+        return table.add(extraColumn);
+    }
+
+    @Benchmark
+    public List<Row> rows() {
+        return table.rows();
+    }
+
+    @Benchmark
+    public DraftTable copy() {
+        return table.copy();
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.cannestro.drafttable.core.aggregations;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Describes one aggregated output column of a {@code TableGrouping}: the input column, the name of the output column
+ * and the reduction applied to the values of every group. The built-in reductions skip null values and yield null for a
+ * group without any non-null value, except for the counts. For example:
+ * <pre>{@code
+ * dt.groupBy("state", "year").agg(Aggregation.count(), Aggregation.mean("magnitude"), Aggregation.max("injuries").as("worst"));
+ * }</pre>
+ * </p>
+ *
+ * @param columnName The input column, or null for aggregations over whole rows
+ * @param outputName The name of the output column
+ * @param collector The reduction applied to the input values of each group, in row order
+ */
+public record Aggregation(@Nullable String columnName,
+                          @NonNull String outputName,
+                          @NonNull Collector<Object, ?, ?> collector) {
+
+    public static final String OUTPUT_NAME_FORMATTER = "%s(%s)";
+    public static final String ROW_COUNT = "count";
+
+
+    public Aggregation {
+        if (isNull(outputName) || isNull(collector)) {
+            throw new IllegalArgumentException("Assumption broken - An aggregation requires an output name and a collector.");
+        }
+    }
+
+    /**
+     * @param newOutputName A non-null string
+     * @return An equivalent {@code Aggregation} whose output column is named as provided
+     */
+    public Aggregation as(@NonNull String newOutputName) {
+        return new Aggregation(columnName(), newOutputName, collector());
+    }
+
+    /**
+     * @return The number of rows of each group, as a {@code Long}, named {@code "count"}
+     */
+    public static Aggregation count() {
+        return new Aggregation(null, ROW_COUNT, Collectors.counting());
+    }
+
+    /**
+     * @param columnName An existing column's name
+     * @return The number of non-null values of each group, as a {@code Long}
+     */
+    public static Aggregation count(@NonNull String columnName) {
+        return new Aggregation(
+                columnName,
+                outputNameOf("count", columnName),
+                Collectors.filtering(value -> !isNull(value), Collectors.counting())
+        );
+    }
+
+    /**
+     * @param columnName An existing numeric column's name
+     * @return The sum of each group, as a {@code Long} if every value is integral and as a {@code Double} otherwise
+     */
+    public static Aggregation sum(@NonNull String columnName) {
+        return new Aggregation(
+                columnName,
+                outputNameOf("sum", columnName),
+                Collector.of(NumericSum::new, NumericSum::add, NumericSum::combine, NumericSum::sum)
+        );
+    }
+
+    /**
+     * @param columnName An existing numeric column's name
+     * @return The arithmetic mean of each group, as a {@code Double}
+     */
+    public static Aggregation mean(@NonNull String columnName) {
+        return new Aggregation(
+                columnName,
+                outputNameOf("mean", columnName),
+                Collector.of(NumericSum::new, NumericSum::add, NumericSum::combine, NumericSum::mean)
+        );
+    }
+
+    /**
+     * @param columnName An existing column's name, whose values are {@code Comparable}
+     * @return The smallest value of each group, in natural order
+     */
+    public static Aggregation min(@NonNull String columnName) {
+        return new Aggregation(columnName, outputNameOf("min", columnName), extremum(-1));
+    }
+
+    /**
+     * @param columnName An existing column's name, whose values are {@code Comparable}
+     * @return The largest value of each group, in natural order
+     */
+    public static Aggregation max(@NonNull String columnName) {
+        return new Aggregation(columnName, outputNameOf("max", columnName), extremum(1));
+    }
+
+    /**
+     * @param columnName An existing column's name
+     * @return The first non-null value of each group, in row order
+     */
+    public static Aggregation first(@NonNull String columnName) {
+        return new Aggregation(
+                columnName,
+                outputNameOf("first", columnName),
+                Collector.of(
+                        () -> new Object[1],
+                        (holder, value) -> holder[0] = isNull(holder[0]) ? value : holder[0],
+                        (holder, other) -> isNull(holder[0]) ? other : holder,
+                        holder -> holder[0]
+                )
+        );
+    }
+
+    /**
+     * @param columnName An existing column's name
+     * @return The last non-null value of each group, in row order
+     */
+    public static Aggregation last(@NonNull String columnName) {
+        return new Aggregation(
+                columnName,
+                outputNameOf("last", columnName),
+                Collector.of(
+                        () -> new Object[1],
+                        (holder, value) -> holder[0] = isNull(value) ? holder[0] : value,
+                        (holder, other) -> isNull(other[0]) ? holder : other,
+                        holder -> holder[0]
+                )
+        );
+    }
+
+    /**
+     * <p><b>Guarantees</b>: An aggregation applying the provided collector to every value of each group, nulls
+     *                       included, in row order. The output column is named after the input column. </p>
+     *
+     * @param columnName An existing column's name
+     * @param collector Any collector accepting the values of the column
+     * @return A new {@code Aggregation}
+     * @param <T> The data type of the column
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Aggregation using(@NonNull String columnName, @NonNull Collector<? super T, ?, ?> collector) {
+        return new Aggregation(columnName, columnName, (Collector<Object, ?, ?>) collector);
+    }
+
+    private static String outputNameOf(String reduction, String columnName) {
+        return String.format(OUTPUT_NAME_FORMATTER, reduction, columnName);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Collector<Object, ?, Object> extremum(int sign) {
+        return Collector.of(
+                () -> new Object[1],
+                (holder, value) -> {
+                    if (!isNull(value) && (isNull(holder[0]) || sign * ((Comparable) value).compareTo(holder[0]) > 0)) {
+                        holder[0] = value;
+                    }
+                },
+                (holder, other) -> {
+                    if (!isNull(other[0]) && (isNull(holder[0]) || sign * ((Comparable) other[0]).compareTo(holder[0]) > 0)) {
+                        holder[0] = other[0];
+                    }
+                    return holder;
+                },
+                holder -> holder[0]
+        );
+    }
+
+
+    /**
+     * Accumulates integral values exactly and any other numbers as doubles.
+     */
+    private static final class NumericSum {
+
+        private long integralSum;
+        private double realSum;
+        private long count;
+        private boolean real;
+
+        void add(Object value) {
+            if (isNull(value)) {
+                return;
+            }
+            Number number = (Number) value;
+            if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+                integralSum += number.longValue();
+            } else {
+                realSum += number.doubleValue();
+                real = true;
+            }
+            count++;
+        }
+
+        NumericSum combine(NumericSum other) {
+            integralSum += other.integralSum;
+            realSum += other.realSum;
+            count += other.count;
+            real |= other.real;
+            return this;
+        }
+
+        Number sum() {
+            if (count == 0) {
+                return null;
+            }
+            if (real) {
+                return integralSum + realSum;
+            }
+            return integralSum;
+        }
+
+        Double mean() {
+            return count == 0 ? null : (integralSum + realSum) / count;
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package com.cannestro.drafttable.core.aggregations;
 
 import com.cannestro.drafttable.core.tables.DraftTable;
 import com.cannestro.drafttable.core.options.SortingOrderType;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 import org.jspecify.annotations.NonNull;
 
 import java.util.function.Function;
@@ -18,6 +19,16 @@ public interface ColumnGrouping {
     String COUNT = "Count";
 
 
+    /**
+     * <p> Creates an equivalent grouping whose aggregations run in parallel on the pool of the provided options, once
+     * the number of values reaches their sequential threshold. The values are partitioned into morsels that are grouped
+     * into thread-local hash tables, which are then merged with the combiner of the collector. </p>
+     *
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code ColumnGrouping}
+     */
+    ColumnGrouping inParallel(@NonNull ParallelOptions parallelOptions);
+
     /**
      * <p> Creates an aggregation of unique values by frequency of occurrence. The resulting object will be a new
      * {@code DraftTable} with column names {@code "Value"} and {@code "Count"} of the type designated in the
@@ -1,30 +1,46 @@
 package com.cannestro.drafttable.core.aggregations;
 
 import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.DictionaryColumn;
 import com.cannestro.drafttable.core.tables.DraftTable;
 import com.cannestro.drafttable.core.columns.FlexibleColumn;
 import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 import org.jspecify.annotations.NonNull;
-import org.hamcrest.Matcher;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import static org.hamcrest.Matchers.*;
+import static java.util.Objects.isNull;
 
 
 /**
  * @author Victor Cannestro
  */
-public record FlexibleColumnGrouping(Column column) implements ColumnGrouping {
+public record FlexibleColumnGrouping(Column column, @Nullable ParallelOptions parallelOptions) implements ColumnGrouping {
 
     public static final String LABEL_FORMATTER = "Grouping: \"%s\"";
 
 
+    public FlexibleColumnGrouping(Column column) {
+        this(column, null);
+    }
+
+    @Override
+    public ColumnGrouping inParallel(@NonNull ParallelOptions parallelOptions) {
+        return new FlexibleColumnGrouping(column(), parallelOptions);
+    }
+
     @Override
     public <B, R> DraftTable byCountsOf(@NonNull Function<? super B, ? extends R> mapping) {
         DraftTable grouping = by(mapping, Collectors.counting());
@@ -33,9 +49,9 @@ public record FlexibleColumnGrouping(Column column) implements ColumnGrouping {
                 col -> col.append((Object) null),
                 UnaryOperator.identity()
         );
-        long nullCountByClassifier = Function.identity().equals(mapping)
-                ? column().where(nullValue()).size()
-                : (long) column().where(nullValue()).size() + column().where(notNullValue()).transform(mapping).where(nullValue()).size();
+        long nullCountByClassifier = column().size() - grouping.select(VALUE_AGGREGATION).values().stream()
+                .mapToLong(count -> (Long) count)
+                .sum();
         Column aggregationColumn = grouping.select(VALUE_AGGREGATION).conditionalAction(
                 col -> column().hasNulls(),
                 col -> col.append(nullCountByClassifier),
@@ -62,11 +78,12 @@ public record FlexibleColumnGrouping(Column column) implements ColumnGrouping {
 
     @Override
     public <B, R, A, D> DraftTable by(@NonNull Function<? super B, ? extends R> mapping, @NonNull Collector<? super B, A, D> aggregation) {
-        List<B> nonNullValues = column()
-                .where(notNullValue())
-                .where((Function<? super B, R>) mapping, (Matcher<R>) notNullValue())
-                .values();
-        Map<R, D> valueAggregationMap = nonNullValues.stream().collect(Collectors.groupingBy(mapping, aggregation));
+        Map<R, D> valueAggregationMap;
+        if (column() instanceof DictionaryColumn dictionaryColumn) {
+            valueAggregationMap = groupByCodes(dictionaryColumn, mapping, aggregation);
+        } else {
+            valueAggregationMap = groupByKeys(column().values(), mapping, aggregation);
+        }
         List<R> values = valueAggregationMap.keySet().stream().toList();
         return FlexibleDraftTable.create().fromColumns(
                 outputTableName(),
@@ -77,6 +94,133 @@ public record FlexibleColumnGrouping(Column column) implements ColumnGrouping {
         );
     }
 
+    /**
+     * Groups the values by key. The mapping is applied exactly once per non-null value, and each value is accumulated
+     * into the container of its key, in row order. Values whose key is null are skipped. In parallel, the values are
+     * partitioned into morsels that accumulate into thread-local maps of unfinished containers, which are merged in
+     * morsel order with the combiner of the collector and finished last.
+     */
+    @SuppressWarnings("unchecked")
+    private <B, R, A, D> Map<R, D> groupByKeys(List<?> values,
+                                               Function<? super B, ? extends R> mapping,
+                                               Collector<? super B, A, D> aggregation) {
+        List<Map<R, A>> partials;
+        if (isNull(parallelOptions()) || !parallelOptions().shouldParallelize(values.size())) {
+            partials = List.of(accumulateByKey((List<B>) values, mapping, aggregation, 0, values.size()));
+        } else {
+            int[] bounds = parallelOptions().partition(values.size());
+            partials = parallelOptions().invokeAll(
+                    IntStream.range(0, bounds.length - 1)
+                            .mapToObj(morsel -> (Callable<Map<R, A>>) () -> accumulateByKey((List<B>) values, mapping, aggregation, bounds[morsel], bounds[morsel + 1]))
+                            .toList()
+            );
+        }
+        Map<R, A> merged = new HashMap<>();
+        partials.forEach(partial -> partial.forEach((key, container) -> merged.merge(key, container, aggregation.combiner())));
+        Map<R, D> finished = new HashMap<>(merged.size());
+        merged.forEach((key, container) -> finished.put(key, aggregation.finisher().apply(container)));
+        return finished;
+    }
+
+    /**
+     * @return The unfinished accumulation container of every non-null key within [startInclusive, endExclusive)
+     */
+    private static <B, R, A> Map<R, A> accumulateByKey(List<B> values,
+                                                       Function<? super B, ? extends R> mapping,
+                                                       Collector<? super B, A, ?> aggregation,
+                                                       int startInclusive,
+                                                       int endExclusive) {
+        BiConsumer<A, ? super B> accumulator = aggregation.accumulator();
+        Map<R, A> containers = new HashMap<>();
+        for (int idx = startInclusive; idx < endExclusive; idx++) {
+            B value = values.get(idx);
+            if (isNull(value)) {
+                continue;
+            }
+            R key = mapping.apply(value);
+            if (!isNull(key)) {
+                accumulator.accept(containers.computeIfAbsent(key, newKey -> aggregation.supplier().get()), value);
+            }
+        }
+        return containers;
+    }
+
+    /**
+     * Groups a dictionary-encoded column by code. The mapping is applied once per distinct value, which assigns every
+     * code its group, and each row is then accumulated into the container of its code's group, in row order. Rows
+     * whose value or mapped value is null are skipped. In parallel, every morsel accumulates into its own containers,
+     * which are merged in morsel order with the combiner of the collector.
+     */
+    @SuppressWarnings("unchecked")
+    private <B, R, A, D> Map<R, D> groupByCodes(DictionaryColumn dictionaryColumn,
+                                                Function<? super B, ? extends R> mapping,
+                                                Collector<? super B, A, D> aggregation) {
+        Map<R, Integer> groupOfKey = new HashMap<>();
+        List<R> keys = new ArrayList<>();
+        int[] groupOfCode = new int[dictionaryColumn.cardinality()];
+        for (int code = 0; code < groupOfCode.length; code++) {
+            R key = mapping.apply((B) dictionaryColumn.decode(code));
+            groupOfCode[code] = isNull(key) ? DictionaryColumn.NULL_CODE : groupOfKey.computeIfAbsent(key, newKey -> {
+                keys.add(newKey);
+                return keys.size() - 1;
+            });
+        }
+        int size = dictionaryColumn.size();
+        List<Object[]> partials;
+        if (isNull(parallelOptions()) || !parallelOptions().shouldParallelize(size)) {
+            partials = List.<Object[]>of(accumulateByCode(dictionaryColumn, groupOfCode, keys.size(), aggregation, 0, size));
+        } else {
+            int[] bounds = parallelOptions().partition(size);
+            partials = parallelOptions().invokeAll(
+                    IntStream.range(0, bounds.length - 1)
+                            .mapToObj(morsel -> (Callable<Object[]>) () -> accumulateByCode(dictionaryColumn, groupOfCode, keys.size(), aggregation, bounds[morsel], bounds[morsel + 1]))
+                            .toList()
+            );
+        }
+        Object[] merged = new Object[keys.size()];
+        for (Object[] partial : partials) {
+            for (int group = 0; group < merged.length; group++) {
+                if (!isNull(partial[group])) {
+                    merged[group] = isNull(merged[group]) ? partial[group] : aggregation.combiner().apply((A) merged[group], (A) partial[group]);
+                }
+            }
+        }
+        Map<R, D> finished = new HashMap<>(merged.length);
+        for (int group = 0; group < merged.length; group++) {
+            if (!isNull(merged[group])) {
+                finished.put(keys.get(group), aggregation.finisher().apply((A) merged[group]));
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * @return The accumulation container of every group within [startInclusive, endExclusive), or null for the groups
+     *         without any row there
+     */
+    @SuppressWarnings("unchecked")
+    private static <B, A> Object[] accumulateByCode(DictionaryColumn dictionaryColumn,
+                                                    int[] groupOfCode,
+                                                    int groupCount,
+                                                    Collector<? super B, A, ?> aggregation,
+                                                    int startInclusive,
+                                                    int endExclusive) {
+        BiConsumer<A, ? super B> accumulator = aggregation.accumulator();
+        Object[] containers = new Object[groupCount];
+        for (int idx = startInclusive; idx < endExclusive; idx++) {
+            int code = dictionaryColumn.codeAt(idx);
+            if (code == DictionaryColumn.NULL_CODE || groupOfCode[code] == DictionaryColumn.NULL_CODE) {
+                continue;
+            }
+            int group = groupOfCode[code];
+            if (isNull(containers[group])) {
+                containers[group] = aggregation.supplier().get();
+            }
+            accumulator.accept((A) containers[group], (B) dictionaryColumn.decode(code));
+        }
+        return containers;
+    }
+
     String outputTableName() {
         return String.format(LABEL_FORMATTER, column().label());
     }
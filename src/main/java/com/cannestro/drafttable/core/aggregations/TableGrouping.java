@@ -0,0 +1,50 @@
+package com.cannestro.drafttable.core.aggregations;
+
+import com.cannestro.drafttable.core.options.Items;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.jspecify.annotations.NonNull;
+
+
+/**
+ * The rows of a {@code DraftTable} grouped by the distinct combinations of values of one or more key columns.
+ */
+public interface TableGrouping {
+
+    /**
+     * <p><b>Requires</b>: Every input column of the aggregations exists, and the output names are distinct from each
+     *                     other and from the key column names. </p>
+     * <br>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} with one row per group, holding the key columns followed by one
+     *                       column per aggregation. Groups appear in order of their first row, and null key values
+     *                       form groups of their own. </p>
+     *
+     * @param aggregations Zero or more aggregations
+     * @return A new {@code DraftTable}
+     */
+    DraftTable agg(@NonNull Aggregation... aggregations);
+
+    /**
+     * <p><b>Guarantees</b>: An equivalent grouping whose aggregations run in parallel on the pool of the provided
+     *                       options, once the row count reaches their sequential threshold. Rows are partitioned into
+     *                       morsels that are aggregated into thread-local hash tables, which are then merged with the
+     *                       combiners of the collectors. The result is the same as that of a sequential
+     *                       aggregation. </p>
+     *
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code TableGrouping}
+     */
+    TableGrouping inParallel(@NonNull ParallelOptions parallelOptions);
+
+    default DraftTable agg(@NonNull Items<Aggregation> aggregations) {
+        return agg(aggregations.params().toArray(Aggregation[]::new));
+    }
+
+    /**
+     * @return A new {@code DraftTable} holding the key columns and the row count of each group
+     */
+    default DraftTable counts() {
+        return agg(Aggregation.count());
+    }
+
+}
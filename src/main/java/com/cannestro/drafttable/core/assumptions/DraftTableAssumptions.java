@@ -3,11 +3,17 @@ package com.cannestro.drafttable.core.assumptions;
 import com.cannestro.drafttable.core.columns.Column;
 import com.cannestro.drafttable.core.tables.DraftTable;
 import com.cannestro.drafttable.core.rows.Row;
+import com.cannestro.drafttable.supporting.options.ValidationMode;
 import org.jspecify.annotations.NonNull;
 
 import java.lang.reflect.Type;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
 
 
 /**
@@ -15,8 +21,66 @@ import java.util.List;
  */
 public class DraftTableAssumptions {
 
+    public static final int VALIDATION_SAMPLE_SIZE = 1024;
+
+    private static volatile ValidationMode defaultValidationMode = ValidationMode.STRICT;
+    private static final ThreadLocal<ValidationMode> SCOPED_VALIDATION_MODE = new ThreadLocal<>();
+
     private DraftTableAssumptions() {}
 
+    /**
+     * @return The mode of the innermost {@code withValidationMode} call on the current thread, if any. Otherwise, the
+     *         default mode, which is initially {@code STRICT}.
+     */
+    public static ValidationMode validationMode() {
+        ValidationMode scopedMode = SCOPED_VALIDATION_MODE.get();
+        return isNull(scopedMode) ? defaultValidationMode : scopedMode;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The provided mode applies to every thread which does not override it. For example, a batch
+     *                       job whose inputs are already known to be valid may opt out of checking them with:
+     *                       <pre>{@code DraftTableAssumptions.setDefaultValidationMode(ValidationMode.TRUSTED);}</pre>
+     *                       </p>
+     *
+     * @param mode A non-null validation mode
+     */
+    public static void setDefaultValidationMode(@NonNull ValidationMode mode) {
+        if (isNull(mode)) {
+            throw new IllegalArgumentException("The validation mode cannot be null.");
+        }
+        defaultValidationMode = mode;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The action is run on the calling thread with the provided mode, after which the previous
+     *                       mode is restored. For example:
+     *                       <pre>{@code
+     *                       DraftTable sample = withValidationMode(ValidationMode.SAMPLED, () -> dt.where(indices));
+     *                       }</pre>
+     *                       </p>
+     *
+     * @param mode A non-null validation mode
+     * @param action The operations to run
+     * @return The result of the action
+     */
+    public static <T> T withValidationMode(@NonNull ValidationMode mode, @NonNull Supplier<T> action) {
+        if (isNull(mode)) {
+            throw new IllegalArgumentException("The validation mode cannot be null.");
+        }
+        ValidationMode previousMode = SCOPED_VALIDATION_MODE.get();
+        SCOPED_VALIDATION_MODE.set(mode);
+        try {
+            return action.get();
+        } finally {
+            if (isNull(previousMode)) {
+                SCOPED_VALIDATION_MODE.remove();
+            } else {
+                SCOPED_VALIDATION_MODE.set(previousMode);
+            }
+        }
+    }
+
     public static void assumeDataTypesMatch(Type type, Type otherType) {
         if (!type.equals(otherType)) {
             throw new IllegalArgumentException(String.format(
@@ -33,6 +97,12 @@ public class DraftTableAssumptions {
         }
     }
 
+    public static void assumeColumnExists(@NonNull String columnName, @NonNull List<String> columnNames) {
+        if (!columnNames.contains(columnName)) {
+            throw new IllegalArgumentException("Assumption broken - Column name not recognized: " + columnName);
+        }
+    }
+
     public static void assumeColumnDoesNotExist(@NonNull String columnName, @NonNull DraftTable draftTable) {
         if (draftTable.hasColumn(columnName)) {
             throw new IllegalArgumentException("Assumption broken - Column name already exists: " + columnName);
@@ -52,7 +122,11 @@ public class DraftTableAssumptions {
     }
 
     public static <T extends Row> void assumeRowsHaveEquivalentKeySets(@NonNull List<T> listOfRows) {
-        long distinctKeyLists =  listOfRows.stream().map(Row::keys).distinct().count();
+        List<String> firstKeys = listOfRows.isEmpty() ? null : listOfRows.get(0).keys();
+        if (!listOfRows.isEmpty() && allCheckedMatch(listOfRows, row -> row.keys().equals(firstKeys))) {
+            return;
+        }
+        long distinctKeyLists = listOfRows.stream().map(Row::keys).distinct().count();
         if (1 != distinctKeyLists) {
             throw new IllegalArgumentException(String.format(
                     "Assumption broken - The provided collection of rows must all use the same key set, but contained %s distinct key sets.",
@@ -78,10 +152,37 @@ public class DraftTableAssumptions {
     }
 
     public static void assumeIndicesBoundedByRowCount(@NonNull List<Integer> indices, @NonNull DraftTable draftTable) {
-        if (indices.stream().anyMatch(idx -> idx < 0 || draftTable.rowCount() <= idx)
-                || indices.stream().distinct().toList().size() != indices.size()) {
+        int rowCount = draftTable.rowCount();
+        BitSet seen = new BitSet();
+        boolean valid = allCheckedMatch(indices, idx -> {
+            if (idx < 0 || rowCount <= idx || seen.get(idx)) {
+                return false;
+            }
+            seen.set(idx);
+            return true;
+        });
+        if (!valid) {
             throw new IllegalArgumentException("Assumption broken - Indices must be bounded by the row count and not contain duplicates");
         }
     }
 
+    /**
+     * Tests the elements selected by the current validation mode: all of them, an evenly spaced sample, or none.
+     */
+    private static <T> boolean allCheckedMatch(List<T> elements, Predicate<? super T> condition) {
+        ValidationMode mode = validationMode();
+        if (mode == ValidationMode.TRUSTED) {
+            return true;
+        }
+        if (mode == ValidationMode.STRICT || elements.size() <= VALIDATION_SAMPLE_SIZE) {
+            return elements.stream().allMatch(condition);
+        }
+        for (int sample = 0; sample < VALIDATION_SAMPLE_SIZE; sample++) {
+            if (!condition.test(elements.get((int) ((long) sample * elements.size() / VALIDATION_SAMPLE_SIZE)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
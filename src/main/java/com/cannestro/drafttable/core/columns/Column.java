@@ -4,6 +4,8 @@ import com.cannestro.drafttable.core.aggregations.ColumnGrouping;
 import com.cannestro.drafttable.core.options.SortingOrderType;
 import com.cannestro.drafttable.core.options.StatisticName;
 import com.cannestro.drafttable.core.outbound.ColumnOutput;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.utils.DraftTableUtils;
 
 import org.jspecify.annotations.NonNull;
 import org.hamcrest.Matcher;
@@ -17,8 +19,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.*;
 
+import static java.util.Objects.isNull;
+
 
 /**
+ * <p> Columns are compared by value: two columns are equal whenever their labels and their {@code values()} lists are,
+ * whatever their implementations, and their hash code is {@code Objects.hash(label(), values())}. For instance, a
+ * dictionary-encoded column equals the {@code FlexibleColumn} holding the same strings under the same label. </p>
+ *
  * @author Victor Cannestro
  */
 public interface Column {
@@ -85,6 +93,22 @@ public interface Column {
      */
     boolean hasNulls();
 
+    /**
+     * <p><b>Guarantees</b>: The number of null values within the column. The built-in columns compute it at most once,
+     *                       so that later calls take constant time. </p>
+     *
+     * @return An integer within [0, size]
+     */
+    default int nullCount() {
+        int nullCount = 0;
+        for (Object value : values()) {
+            if (isNull(value)) {
+                nullCount++;
+            }
+        }
+        return nullCount;
+    }
+
     /**
      * <p><b>Guarantees</b>: Queries the current state of the column to determine if it contains the provided value. </p>
      *
@@ -156,6 +180,17 @@ public interface Column {
      */
     Column where(@NonNull List<Integer> indices);
 
+    /**
+     * Selects the subset of the {@code Column} found at the positions of the selection vector. Implementations may
+     * return a view sharing the storage of this column instead of a copy.
+     *
+     * @param selection A selection whose positions are within [0,n)
+     * @return A new {@code Column} subset
+     */
+    default Column where(@NonNull SelectionVector selection) {
+        return where(selection.asList());
+    }
+
     /**
      * Selects the subset of the {@code Column} that matches the specified selection criteria. It may be empty. This
      * method can be used to access and match on the fields of a column whose values are of a more complex object type.
@@ -172,6 +207,34 @@ public interface Column {
      */
     <T, R>  Column where(@NonNull Function<T, R> aspect, @NonNull Matcher<R> matcher);
 
+    /**
+     * <p><b>Guarantees</b>: The positions, in ascending order, of the values satisfying the matcher. Implementations may
+     *                       evaluate the matcher fewer times than there are values, e.g. once per distinct value, so the
+     *                       matcher should depend on nothing but the value it is matched against. </p>
+     *
+     * @param matcher Any matcher of compatible type
+     * @return A new {@code SelectionVector}
+     */
+    default <T> SelectionVector positionsWhere(@NonNull Matcher<T> matcher) {
+        List<T> values = values();
+        return SelectionVector.matching(size(), idx -> matcher.matches(values.get(idx)));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The positions, in ascending order, of the values whose aspect satisfies the matcher. See
+     *                       {@link #positionsWhere(Matcher)}. </p>
+     *
+     * @param aspect A mapping of the column values to some derived aspect
+     * @param matcher Any matcher of compatible type
+     * @return A new {@code SelectionVector}
+     * @param <T> The type of the column
+     * @param <R> The output type of the aspect's mapping
+     */
+    default <T, R> SelectionVector positionsWhere(@NonNull Function<T, R> aspect, @NonNull Matcher<R> matcher) {
+        List<T> values = values();
+        return SelectionVector.matching(size(), idx -> matcher.matches(aspect.apply(values.get(idx))));
+    }
+
     /**
      * Orders the column data in ascending or descending order as specified. Null values will appear first, followed by
      * any sorted non-null values in <b>natural order</b>.
@@ -198,6 +261,80 @@ public interface Column {
      */
     <T> Column orderBy(@NonNull Comparator<T> comparator);
 
+    /**
+     * Orders the column data in ascending or descending order as specified, sorting in parallel on the pool of the
+     * provided options once the column reaches their sequential threshold. The result is the same as that of
+     * {@link #orderBy(SortingOrderType)}.
+     *
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code Column}
+     */
+    default Column orderBy(@NonNull SortingOrderType sortingOrderType, @NonNull ParallelOptions parallelOptions) {
+        return where(SelectionVector.sorted(size(), positionComparator(sortingOrderType), parallelOptions));
+    }
+
+    /**
+     * Produces the first {@code n} values of {@link #orderBy(SortingOrderType)}, or every value if there are fewer,
+     * without sorting the whole column. A bounded heap keeps the best candidates, at a cost of O(size log n).
+     *
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param n A non-negative integer
+     * @return A new {@code Column}
+     */
+    default Column topBy(@NonNull SortingOrderType sortingOrderType, int n) {
+        return where(SelectionVector.sortedPrefix(
+                size(),
+                DraftTableUtils.calculateEndpoint(n, size()),
+                positionComparator(sortingOrderType)
+        ));
+    }
+
+    /**
+     * Produces the same values as {@link #topBy(SortingOrderType, int)}, selecting candidates in parallel on the pool
+     * of the provided options once the column reaches their sequential threshold.
+     *
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param n A non-negative integer
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code Column}
+     */
+    default Column topBy(@NonNull SortingOrderType sortingOrderType, int n, @NonNull ParallelOptions parallelOptions) {
+        return where(SelectionVector.sortedPrefix(
+                size(),
+                DraftTableUtils.calculateEndpoint(n, size()),
+                positionComparator(sortingOrderType),
+                parallelOptions
+        ));
+    }
+
+    /**
+     * @param sortingOrderType Specifying ascending or descending order
+     * @return The {@link #positionComparator()}, reversed entirely for descending order
+     */
+    default IntBinaryOperator positionComparator(@NonNull SortingOrderType sortingOrderType) {
+        IntBinaryOperator comparator = positionComparator();
+        if (sortingOrderType.equals(SortingOrderType.ASCENDING)) {
+            return comparator;
+        }
+        return (index, otherIndex) -> -Integer.signum(comparator.applyAsInt(index, otherIndex));
+    }
+
+    /**
+     * <p><b>Requires</b>: The column's data type implements {@code Comparable}. </p>
+     * <p><b>Guarantees</b>: A comparison of the entries at two indices of the column, with nulls first, followed by
+     *                       non-null values in <b>natural order</b>. Comparing indices rather than values lets callers
+     *                       sort permutations of the column without materializing it. </p>
+     *
+     * @return A comparison of two indices within [0, size)
+     */
+    @SuppressWarnings("unchecked")
+    default IntBinaryOperator positionComparator() {
+        List<Comparable<Object>> values = values();
+        Comparator<Comparable<Object>> order = Comparator.nullsFirst(Comparator.naturalOrder());
+        return (index, otherIndex) -> order.compare(values.get(index), values.get(otherIndex));
+    }
+
     /**
      * <p><b>Requires</b>: This method assumes that the provided value is of an arbitrary, yet homogeneous type
      *                     consistent with the current column type. </p>
@@ -274,7 +411,11 @@ public interface Column {
     <T> Column apply(@NonNull Consumer<T> consumer);
 
     /**
-     * <p> <b>Guarantees</b>: The current label assigned to the {@code Column} is replaced with the provided label. </p>
+     * <p> <b>Guarantees</b>: A {@code Column} with the provided label and the same values. The built-in implementations
+     *                        return a new instance sharing the underlying values, and leave the label of this one as it
+     *                        was. Implementations relabelling in place should be renamed through
+     *                        {@link com.cannestro.drafttable.core.tables.DraftTable#rename}, which re-keys the column
+     *                        lookups of the table. </p>
      *
      * @param newLabel Any valid String
      * @return An instance of Column. It may be the same reference.
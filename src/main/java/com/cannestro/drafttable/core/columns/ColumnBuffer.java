@@ -0,0 +1,131 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * <p> A growable buffer of values destined for a single column. Loaders fill one buffer per column while
+ * streaming records, so no intermediate row representation is needed. The buffer is not thread-safe. </p>
+ */
+public final class ColumnBuffer {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private Object[] values;
+    private int size;
+
+
+    public ColumnBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ColumnBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Input must be non-negative");
+        }
+        this.values = new Object[Math.max(initialCapacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param value Any value of the column's type, or null
+     */
+    public void add(@Nullable Object value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grownCapacity(size + 1));
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The buffer holds at least the provided number of values before growing again. Callers
+     *                       that know the final size up front, e.g. when merging several buffers, should call this
+     *                       first so that the values are copied only once. </p>
+     *
+     * @param minimumCapacity Any integer
+     */
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > values.length) {
+            values = Arrays.copyOf(values, minimumCapacity);
+        }
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every value of the other buffer is appended to this buffer, in order. </p>
+     *
+     * @param other Any {@code ColumnBuffer}
+     */
+    public void addAll(@NonNull ColumnBuffer other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @return The value stored at the index
+     */
+    public Object get(int index) {
+        return values[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @param value Any value of the column's type, or null
+     */
+    public void set(int index, @Nullable Object value) {
+        values[Objects.checkIndex(index, size)] = value;
+    }
+
+    /**
+     * @return A read-only list of the buffered values, trimmed to size
+     */
+    public List<Object> values() {
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(values, size)));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The buffered values are handed over without being copied, and the buffer is left empty.
+     *                       Use this instead of {@link #values()} when the buffer is no longer needed. </p>
+     *
+     * @return A read-only list backed by the former contents of the buffer
+     */
+    public List<Object> release() {
+        List<Object> released = Collections.unmodifiableList(Arrays.asList(values).subList(0, size));
+        values = new Object[1];
+        size = 0;
+        return released;
+    }
+
+    /**
+     * <p><b>Requires</b>: The buffered values are of a single, arbitrary, yet homogeneous type. </p>
+     * <p><b>Guarantees</b>: The most compact {@code Column} holding the buffered values, which are handed over rather
+     *                       than copied. The buffer is left empty. See {@link Columns#bestFitFor(String, List)}. </p>
+     *
+     * @param label A non-null string
+     * @return A new {@code Column}
+     */
+    public Column toColumn(@NonNull String label) {
+        return Columns.bestFitFor(label, release());
+    }
+
+    private int grownCapacity(int minimumCapacity) {
+        return Math.max(minimumCapacity, values.length + (values.length >> 1));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * Factory methods choosing the most compact {@code Column} implementation for a given collection of values.
+ */
+public class Columns {
+
+    private Columns() {}
+
+    /**
+     * <p><b>Requires</b>: This method assumes that the provided values are of a single, arbitrary, yet homogeneous
+     *                     type. </p>
+     * <p><b>Guarantees</b>: A primitive-backed column when every non-null value is an {@code Integer}, {@code Long} or
+     *                       {@code Double}. Otherwise, a {@code FlexibleColumn}. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of an arbitrary, yet homogeneous type
+     * @return A new {@code Column}
+     */
+    public static Column bestFitFor(@NonNull String label, @NonNull List<?> values) {
+        Class<?> type = null;
+        for (Object value : values) {
+            if (isNull(value)) {
+                continue;
+            }
+            if (isNull(type)) {
+                type = value.getClass();
+            } else if (!type.equals(value.getClass())) {
+                return new FlexibleColumn(label, values);
+            }
+        }
+        if (Integer.class.equals(type)) {
+            return IntColumn.from(label, values);
+        }
+        if (Long.class.equals(type)) {
+            return LongColumn.from(label, values);
+        }
+        if (Double.class.equals(type)) {
+            return DoubleColumn.from(label, values);
+        }
+        return FlexibleColumn.trusted(label, values, isNull(type) ? Object.class : type);
+    }
+
+    /**
+     * <p><b>Requires</b>: This method assumes that the provided values are of a single, arbitrary, yet homogeneous
+     *                     type. The ratio lies within [0, 1]. </p>
+     * <p><b>Guarantees</b>: A {@code DictionaryColumn} when every non-null value is a {@code String} and the distinct
+     *                       values number at most the provided fraction of the non-null values. Otherwise, the same
+     *                       column as {@link #bestFitFor(String, List)}. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of an arbitrary, yet homogeneous type
+     * @param maxDistinctRatio The largest fraction of distinct values worth encoding
+     * @return A new {@code Column}
+     */
+    public static Column dictionaryEncodedIfCompact(@NonNull String label, @NonNull List<?> values, double maxDistinctRatio) {
+        long nonNullCount = values.stream().filter(value -> !isNull(value)).count();
+        if (nonNullCount > 0) {
+            DictionaryColumn column = DictionaryColumn.encode(label, values, (int) Math.floor(maxDistinctRatio * nonNullCount));
+            if (!isNull(column)) {
+                return column;
+            }
+        }
+        return bestFitFor(label, values);
+    }
+
+}
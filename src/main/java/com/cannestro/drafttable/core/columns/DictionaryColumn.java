@@ -0,0 +1,303 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.options.StatisticName;
+import org.hamcrest.Matcher;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> A {@code Column} of {@code String} values encoded as {@code int} codes into a dictionary of the distinct values,
+ * which is shared by every column derived from it through a selection. Each distinct string is stored once, no matter
+ * how many rows hold it. </p>
+ *
+ * <p> Operations that only depend on the values themselves work on the codes: a {@code Matcher} is evaluated once per
+ * distinct value rather than once per row, and sorting compares precomputed ranks of the codes instead of strings.
+ * Matchers are therefore assumed to depend on nothing but the value they are matched against. </p>
+ */
+public class DictionaryColumn extends PrimitiveColumn {
+
+    public static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private final Dictionary dictionary;
+
+
+    private DictionaryColumn(@NonNull String label,
+                             int @NonNull [] codes,
+                             @NonNull Dictionary dictionary,
+                             @NonNull ValidityBitmap validity,
+                             @Nullable SelectionVector selection) {
+        super(label, validity, selection);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or a {@code String}. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code DictionaryColumn} whose dictionary holds the distinct values in
+     *                       order of first appearance. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of nullable strings
+     * @return A new instance of {@code DictionaryColumn}
+     */
+    public static DictionaryColumn from(@NonNull String label, @NonNull List<?> values) {
+        DictionaryColumn column = encode(label, values, Integer.MAX_VALUE);
+        if (isNull(column)) {
+            throw new IllegalArgumentException("Assumption broken - A dictionary-encoded column can only hold String values.");
+        }
+        return column;
+    }
+
+    /**
+     * @param maxCardinality The largest dictionary to accept
+     * @return A new {@code DictionaryColumn}, or null if a value is not a {@code String} or if there are more distinct
+     *         values than the provided maximum
+     */
+    static @Nullable DictionaryColumn encode(@NonNull String label, @NonNull List<?> values, int maxCardinality) {
+        Map<String, Integer> codeOfValue = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] codes = new int[values.size()];
+        for (int idx = 0; idx < codes.length; idx++) {
+            Object value = values.get(idx);
+            if (isNull(value)) {
+                continue;
+            }
+            if (!(value instanceof String string)) {
+                return null;
+            }
+            Integer code = codeOfValue.get(string);
+            if (isNull(code)) {
+                if (entries.size() == maxCardinality) {
+                    return null;
+                }
+                code = entries.size();
+                codeOfValue.put(string, code);
+                entries.add(string);
+            }
+            codes[idx] = code;
+        }
+        return new DictionaryColumn(
+                label,
+                codes,
+                new Dictionary(entries.toArray(String[]::new), codeOfValue),
+                ValidityBitmap.fromNullFlags(codes.length, idx -> isNull(values.get(idx))),
+                null
+        );
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @return The code of the entry at the index, or {@code NULL_CODE} if it is null
+     */
+    public int codeAt(int index) {
+        return isNullAt(index) ? NULL_CODE : codes[position(index)];
+    }
+
+    /**
+     * @return The number of distinct non-null values within the dictionary, which may exceed those visible through
+     *         this column
+     */
+    public int cardinality() {
+        return dictionary.entries().length;
+    }
+
+    /**
+     * @param code A code within [0, cardinality)
+     * @return The value encoded by the code
+     */
+    public String decode(int code) {
+        return dictionary.entries()[code];
+    }
+
+    /**
+     * @param value Any object
+     * @return The code of the value, or {@code NULL_CODE} if the dictionary does not hold it
+     */
+    public int codeOf(@Nullable Object value) {
+        Integer code = value instanceof String string ? dictionary.codeOfValue().get(string) : null;
+        return isNull(code) ? NULL_CODE : code;
+    }
+
+    @Override
+    public Type dataType() {
+        return String.class;
+    }
+
+    @Override
+    public <T> boolean has(@NonNull T element) {
+        int code = codeOf(element);
+        return code != NULL_CODE && IntStream.range(0, size()).anyMatch(idx -> codeAt(idx) == code);
+    }
+
+    @Override
+    public <T> SelectionVector positionsWhere(@NonNull Matcher<T> matcher) {
+        return positionsWhereCodeMatches(value -> value, matcher);
+    }
+
+    @Override
+    public <T, R> SelectionVector positionsWhere(@NonNull Function<T, R> aspect, @NonNull Matcher<R> matcher) {
+        return positionsWhereCodeMatches(aspect, matcher);
+    }
+
+    /**
+     * Evaluates the matcher once per distinct value, and once for null if this column holds any, then selects the
+     * positions whose code matched.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, R> SelectionVector positionsWhereCodeMatches(Function<T, R> aspect, Matcher<?> matcher) {
+        boolean[] matchingCodes = new boolean[cardinality()];
+        for (int code = 0; code < matchingCodes.length; code++) {
+            matchingCodes[code] = matcher.matches(aspect.apply((T) decode(code)));
+        }
+        boolean nullMatches = hasNulls() && matcher.matches(aspect.apply(null));
+        return SelectionVector.matching(size(), idx -> {
+            int code = codeAt(idx);
+            return code == NULL_CODE ? nullMatches : matchingCodes[code];
+        });
+    }
+
+    @Override
+    public Map<StatisticName, Number> descriptiveStats() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    protected Object boxedValueAt(int index) {
+        return dictionary.entries()[codes[position(index)]];
+    }
+
+    @Override
+    protected boolean accepts(@Nullable Object value) {
+        return value instanceof String;
+    }
+
+    @Override
+    protected DictionaryColumn withSelection(@NonNull String newLabel, @Nullable SelectionVector selection) {
+        return new DictionaryColumn(newLabel, codes, dictionary, storageValidity(), selection);
+    }
+
+    /**
+     * Keeps the codes of the current entries and extends a copy of the dictionary with the values it does not hold
+     * yet.
+     */
+    @Override
+    protected DictionaryColumn appendValues(@NonNull List<?> values) {
+        Map<String, Integer> codeOfValue = new HashMap<>(dictionary.codeOfValue());
+        List<String> entries = new ArrayList<>(List.of(dictionary.entries()));
+        int[] combined = new int[size() + values.size()];
+        for (int idx = 0; idx < size(); idx++) {
+            combined[idx] = isNullAt(idx) ? 0 : codes[position(idx)];
+        }
+        for (int idx = 0; idx < values.size(); idx++) {
+            String value = (String) values.get(idx);
+            if (!isNull(value)) {
+                combined[size() + idx] = codeOfValue.computeIfAbsent(value, newValue -> {
+                    entries.add(newValue);
+                    return entries.size() - 1;
+                });
+            }
+        }
+        return new DictionaryColumn(
+                label(),
+                combined,
+                new Dictionary(entries.toArray(String[]::new), codeOfValue),
+                validity().append(ValidityBitmap.fromNullFlags(values.size(), idx -> isNull(values.get(idx)))),
+                null
+        );
+    }
+
+    @Override
+    protected int compareNonNullAt(int index, int otherIndex) {
+        int[] ranks = dictionary.ranks();
+        return Integer.compare(ranks[codes[position(index)]], ranks[codes[position(otherIndex)]]);
+    }
+
+    /**
+     * Counting sort of the codes by rank, which never compares two strings beyond building the ranks.
+     */
+    @Override
+    protected DictionaryColumn sorted(boolean ascending) {
+        int[] ranks = dictionary.ranks();
+        int[] codesByRank = new int[ranks.length];
+        int[] countsByRank = new int[ranks.length];
+        for (int code = 0; code < ranks.length; code++) {
+            codesByRank[ranks[code]] = code;
+        }
+        for (int idx = 0; idx < size(); idx++) {
+            if (!isNullAt(idx)) {
+                countsByRank[ranks[codes[position(idx)]]]++;
+            }
+        }
+        int nullCount = nullCount();
+        int nonNullCount = size() - nullCount;
+        int[] sortedCodes = new int[size()];
+        int next = ascending ? nullCount : 0;
+        for (int step = 0; step < ranks.length; step++) {
+            int rank = ascending ? step : ranks.length - 1 - step;
+            Arrays.fill(sortedCodes, next, next + countsByRank[rank], codesByRank[rank]);
+            next += countsByRank[rank];
+        }
+        return new DictionaryColumn(
+                label(),
+                sortedCodes,
+                dictionary,
+                ValidityBitmap.fromNullFlags(size(), idx -> ascending ? idx < nullCount : idx >= nonNullCount),
+                null
+        );
+    }
+
+    @Override
+    protected DictionaryColumn create(@NonNull String newLabel, @NonNull List<?> values) {
+        return from(newLabel, values);
+    }
+
+
+    /**
+     * The distinct values of a column, by code, along with the code of every value and, once needed for sorting, the
+     * rank of every code in natural order.
+     */
+    private static final class Dictionary {
+
+        private final String[] entries;
+        private final Map<String, Integer> codeOfValue;
+        private volatile int[] ranks;
+
+        Dictionary(String[] entries, Map<String, Integer> codeOfValue) {
+            this.entries = entries;
+            this.codeOfValue = codeOfValue;
+        }
+
+        String[] entries() {
+            return entries;
+        }
+
+        Map<String, Integer> codeOfValue() {
+            return codeOfValue;
+        }
+
+        int[] ranks() {
+            int[] computed = ranks;
+            if (isNull(computed)) {
+                Integer[] codesInOrder = IntStream.range(0, entries.length).boxed().toArray(Integer[]::new);
+                Arrays.sort(codesInOrder, Comparator.comparing(code -> entries[code]));
+                computed = new int[entries.length];
+                for (int rank = 0; rank < codesInOrder.length; rank++) {
+                    computed[codesInOrder[rank]] = rank;
+                }
+                ranks = computed;
+            }
+            return computed;
+        }
+
+    }
+
+}
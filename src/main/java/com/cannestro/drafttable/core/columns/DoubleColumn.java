@@ -0,0 +1,131 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * A {@code Column} of {@code Double} values backed by a {@code double[]}.
+ */
+public class DoubleColumn extends NumericColumn {
+
+    private final double[] data;
+
+
+    DoubleColumn(@NonNull String label, double @NonNull [] data, @NonNull ValidityBitmap validity) {
+        this(label, data, validity, null);
+    }
+
+    private DoubleColumn(@NonNull String label,
+                            double @NonNull [] data,
+                            @NonNull ValidityBitmap validity,
+                            @Nullable SelectionVector selection) {
+        super(label, validity, selection);
+        this.data = data;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or a {@code Double}. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code DoubleColumn} from the provided input. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of nullable doubles
+     * @return A new instance of {@code DoubleColumn}
+     */
+    public static DoubleColumn from(@NonNull String label, @NonNull List<?> values) {
+        double[] data = new double[values.size()];
+        for (int idx = 0; idx < data.length; idx++) {
+            Object value = values.get(idx);
+            if (!isNull(value)) {
+                data[idx] = (Double) value;
+            }
+        }
+        return new DoubleColumn(label, data, ValidityBitmap.fromNullFlags(data.length, idx -> isNull(values.get(idx))));
+    }
+
+    public static DoubleColumn of(@NonNull String label, double @NonNull ... values) {
+        return new DoubleColumn(label, values.clone(), ValidityBitmap.allValid(values.length));
+    }
+
+    @Override
+    public Type dataType() {
+        return Double.class;
+    }
+
+    @Override
+    protected Object boxedValueAt(int index) {
+        return data[position(index)];
+    }
+
+    /**
+     * @param index An index within [0, size) whose entry is not null
+     * @return The primitive value stored at the index
+     */
+    @Override
+    public double doubleValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    protected boolean accepts(@Nullable Object value) {
+        return value instanceof Double;
+    }
+
+    @Override
+    protected DoubleColumn withSelection(@NonNull String newLabel, @Nullable SelectionVector selection) {
+        return new DoubleColumn(newLabel, data, storageValidity(), selection);
+    }
+
+    @Override
+    protected DoubleColumn appendValues(@NonNull List<?> values) {
+        DoubleColumn other = from(label(), values);
+        double[] combined = new double[size() + other.size()];
+        for (int idx = 0; idx < size(); idx++) {
+            combined[idx] = data[position(idx)];
+        }
+        System.arraycopy(other.data, 0, combined, size(), other.size());
+        return new DoubleColumn(label(), combined, validity().append(other.validity()));
+    }
+
+    @Override
+    protected int compareNonNullAt(int index, int otherIndex) {
+        return Double.compare(data[position(index)], data[position(otherIndex)]);
+    }
+
+    @Override
+    protected DoubleColumn sorted(boolean ascending) {
+        int nullCount = nullCount();
+        double[] nonNullValues = new double[size() - nullCount];
+        for (int idx = 0, next = 0; idx < size(); idx++) {
+            if (!isNullAt(idx)) {
+                nonNullValues[next++] = data[position(idx)];
+            }
+        }
+        Arrays.sort(nonNullValues);
+        double[] sortedValues = new double[size()];
+        for (int idx = 0; idx < nonNullValues.length; idx++) {
+            if (ascending) {
+                sortedValues[nullCount + idx] = nonNullValues[idx];
+            } else {
+                sortedValues[idx] = nonNullValues[nonNullValues.length - 1 - idx];
+            }
+        }
+        return new DoubleColumn(
+                label(),
+                sortedValues,
+                ValidityBitmap.fromNullFlags(size(), idx -> ascending ? idx < nullCount : idx >= nonNullValues.length)
+        );
+    }
+
+    @Override
+    protected DoubleColumn create(@NonNull String newLabel, @NonNull List<?> values) {
+        return from(newLabel, values);
+    }
+
+}
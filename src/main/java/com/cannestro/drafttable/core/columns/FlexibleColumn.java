@@ -21,13 +21,9 @@ import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.*;
-import java.util.stream.IntStream;
 
 import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeDataTypesMatch;
 import static com.cannestro.drafttable.core.options.StatisticName.*;
-import static com.cannestro.drafttable.supporting.utils.ListUtils.containsMultipleTypes;
-import static com.cannestro.drafttable.supporting.utils.ListUtils.copyWithoutNulls;
-import static com.cannestro.drafttable.supporting.utils.NullDetector.hasNullIn;
 import static java.util.Objects.isNull;
 
 
@@ -36,32 +32,47 @@ import static java.util.Objects.isNull;
  */
 @Getter
 @Accessors(fluent = true)
-@EqualsAndHashCode
 public class FlexibleColumn implements Column {
 
-    private String label;
+    private final String label;
     private final List<?> values;
     @Getter(AccessLevel.PRIVATE) private final JavaType type;
+    @Getter(AccessLevel.NONE) private transient ValidityBitmap validity;
 
     private static final String EXCEPTION_FORMAT_STRING = "Input type of the provided expression must match the Column data type: %s";
 
 
     public FlexibleColumn(@NonNull String label, @NonNull List<?> values) {
-        List<?> nonNullValues = copyWithoutNulls(values);
-        if (!nonNullValues.isEmpty() && containsMultipleTypes(nonNullValues)) {
-            throw new IllegalArgumentException("Values cannot be of mixed type");
-        }
         this.label = label;
         this.values = values;
-        if (this.values.isEmpty() || nonNullValues.isEmpty()) {
-            this.type = ObjectMapperManager.getInstance().defaultMapper()
-                    .getTypeFactory()
-                    .constructType(Object.class);
-        } else {
-            this.type = ObjectMapperManager.getInstance().defaultMapper()
-                    .getTypeFactory()
-                    .constructType(nonNullValues.get(0).getClass());
-        }
+        this.type = constructType(elementTypeOf(values));
+    }
+
+    /**
+     * <p><b>Requires</b>: The values are already known to be of the provided homogeneous type. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code FlexibleColumn} sharing the provided list without re-validating
+     *                       it. </p>
+     */
+    private FlexibleColumn(String label, List<?> values, JavaType type, @Nullable ValidityBitmap validity) {
+        this.label = label;
+        this.values = values;
+        this.type = type;
+        this.validity = validity;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every non-null value is known to be an instance of exactly the provided type, for instance
+     *                     because it was taken from an already validated column. No value is inspected. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code FlexibleColumn} sharing the provided list without re-validating
+     *                       it. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of an arbitrary, yet homogeneous type
+     * @param elementType The class of the non-null values, or {@code Object} if there are none
+     * @return A new instance of {@code FlexibleColumn}
+     */
+    static FlexibleColumn trusted(@NonNull String label, @NonNull List<?> values, @NonNull Class<?> elementType) {
+        return new FlexibleColumn(label, values, constructType(elementType), null);
     }
 
     /**
@@ -110,7 +121,25 @@ public class FlexibleColumn implements Column {
 
     @Override
     public boolean hasNulls() {
-        return hasNullIn(values());
+        return nullCount() > 0;
+    }
+
+    @Override
+    public int nullCount() {
+        return validity().nullCount();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The validity of every entry, computed on first use and cached afterward, since the column
+     *                       is treated as immutable. </p>
+     *
+     * @return A {@code ValidityBitmap} of the column's size
+     */
+    public ValidityBitmap validity() {
+        if (isNull(validity)) {
+            validity = ValidityBitmap.fromNullFlags(values.size(), idx -> isNull(values.get(idx)));
+        }
+        return validity;
     }
 
     @Override
@@ -120,28 +149,32 @@ public class FlexibleColumn implements Column {
 
     @Override
     public <T> Column where(@NonNull Matcher<T> matcher) {
-        return new FlexibleColumn(
-                label(),
-                values().stream().filter(matcher::matches).toList()
-        );
+        return where(positionsWhere(matcher));
     }
 
     @Override
     public Column where(@NonNull List<Integer> indices) {
-        return new FlexibleColumn(
-                label(),
-                indices.stream().map(idx -> values().get(idx)).toList()
-        );
+        return where(SelectionVector.from(indices));
     }
 
     @Override
     public <T, R>  Column where(@NonNull Function<T, R> aspect, @NonNull Matcher<R> matcher) {
-        List<Integer> matchingIndices = IntStream.range(0, size())
-                .filter(idx -> matcher.matches(
-                        aspect.apply((T) values.get(idx))
-                )).boxed()
-                .toList();
-        return where(matchingIndices);
+        return where(positionsWhere(aspect, matcher));
+    }
+
+    @Override
+    public Column where(@NonNull SelectionVector selection) {
+        selection.checkBoundedBy(size());
+        SelectedValues<?> selectedValues = values instanceof SelectedValues<?> parent
+                ? new SelectedValues<>(parent.base, parent.selection.compose(selection))
+                : new SelectedValues<>(values, selection);
+        ValidityBitmap selectedValidity = validity().gather(selection);
+        return new FlexibleColumn(
+                label(),
+                selectedValues,
+                selectedValidity.nullCount() < selectedValidity.size() ? type : constructType(Object.class),
+                selectedValidity
+        );
     }
 
     @Override
@@ -161,30 +194,23 @@ public class FlexibleColumn implements Column {
 
     @Override
     public Column top(int n) {
-        return new FlexibleColumn(
-                label(),
-                values().subList(0, DraftTableUtils.calculateEndpoint(n, size()))
-        );
+        return where(SelectionVector.range(0, DraftTableUtils.calculateEndpoint(n, size())));
     }
 
     @Override
     public Column bottom(int n) {
-        return new FlexibleColumn(
-                label(),
-                values().subList(size() - DraftTableUtils.calculateEndpoint(n, size()), size())
-        );
+        return where(SelectionVector.range(size() - DraftTableUtils.calculateEndpoint(n, size()), size()));
     }
 
     @Override
     public Column randomDraw(int n) {
-        return where(
+        return where(SelectionVector.of(
                 ThreadLocalRandom.current()
                         .ints(0, size())
                         .distinct()
                         .limit(DraftTableUtils.calculateEndpoint(n, size()))
-                        .boxed()
-                        .toList()
-        );
+                        .toArray()
+        ));
     }
 
     @Override
@@ -195,44 +221,52 @@ public class FlexibleColumn implements Column {
                 ? comparator
                 : comparator.reversed()
         );
-        return new FlexibleColumn(label(), sortedValues);
+        return new FlexibleColumn(label(), sortedValues, type, null);
     }
 
     @Override
     public <T> Column orderBy(@NonNull Comparator<T> comparator) {
         List<T> sortedValues = new ArrayList<>((List<T>) values());
         sortedValues.sort(comparator);
-        return new FlexibleColumn(label(), sortedValues);
+        return new FlexibleColumn(label(), sortedValues, type, null);
     }
 
     @Override
     public <T> Column append(@Nullable T element) {
-        if (!isEmpty() && !hasNulls() && !isNull(element)) {
-            assumeDataTypesMatch(dataType(), element.getClass());
-        }
+        JavaType newType = isNull(element) ? type : typeAccepting(element.getClass());
         List<T> newValues = (List<T>) new ArrayList<>(values());
         newValues.add(element);
-        return new FlexibleColumn(label(), newValues);
+        return new FlexibleColumn(label(), newValues, newType, null);
     }
 
     @Override
     public <T> Column append(@NonNull List<T> otherCollection) {
-        if (!isEmpty() && !hasNulls()) {
-            otherCollection.forEach(element -> assumeDataTypesMatch(dataType(), element.getClass()));
+        JavaType newType = type;
+        boolean typeKnown = nullCount() < size();
+        for (T element : otherCollection) {
+            if (isNull(element)) {
+                continue;
+            }
+            if (typeKnown) {
+                assumeDataTypesMatch(newType.getRawClass(), element.getClass());
+            } else {
+                newType = constructType(element.getClass());
+                typeKnown = true;
+            }
         }
         List<T> newValues = (List<T>) new ArrayList<>(values());
         newValues.addAll(otherCollection);
-        return new FlexibleColumn(label(), newValues);
+        return new FlexibleColumn(label(), newValues, newType, null);
     }
 
     @Override
     public Column append(@NonNull Column otherColumn) {
-        if (!this.hasNulls() && !otherColumn.isEmpty() && !otherColumn.hasNulls()) {
-            assumeDataTypesMatch(dataType(), otherColumn.dataType());
-        }
+        JavaType newType = otherColumn.nullCount() == otherColumn.size()
+                ? type
+                : typeAccepting((Class<?>) otherColumn.dataType());
         List<?> newValues = new ArrayList<>(values());
         newValues.addAll(otherColumn.values());
-        return new FlexibleColumn(label(), newValues);
+        return new FlexibleColumn(label(), newValues, newType, null);
     }
 
     @Override
@@ -240,10 +274,7 @@ public class FlexibleColumn implements Column {
         if (!hasNulls()) {
             return this;
         }
-        return new FlexibleColumn(
-                label(),
-                values().stream().filter(Objects::nonNull).toList()
-        );
+        return where(SelectionVector.of(validity().validPositions()));
     }
 
     @Override
@@ -253,7 +284,9 @@ public class FlexibleColumn implements Column {
         }
         return new FlexibleColumn(
                 label(),
-                values().stream().map(value -> isNull(value) ? fillValue : value).toList()
+                values().stream().map(value -> isNull(value) ? fillValue : value).toList(),
+                typeAccepting(fillValue.getClass()),
+                ValidityBitmap.allValid(size())
         );
     }
 
@@ -269,8 +302,7 @@ public class FlexibleColumn implements Column {
 
     @Override
     public Column renameAs(@NonNull String newLabel) {
-        this.label = newLabel;
-        return this;
+        return new FlexibleColumn(newLabel, values, type, validity);
     }
 
     @Override
@@ -357,9 +389,87 @@ public class FlexibleColumn implements Column {
         return new DefaultColumnOutput(this);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Column other && label.equals(other.label()) && values.equals(other.values());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(label, values());
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.JSON_STYLE);
     }
 
+    /**
+     * @param otherType The class of a non-null value to be combined with this column's values
+     * @return This column's type, or the provided one if this column has no non-null value to constrain it
+     * @throws IllegalArgumentException If the types are mismatched
+     */
+    private JavaType typeAccepting(Class<?> otherType) {
+        if (nullCount() == size()) {
+            return constructType(otherType);
+        }
+        assumeDataTypesMatch(dataType(), otherType);
+        return type;
+    }
+
+    /**
+     * Finds the class shared by every non-null value in a single pass, without copying the values.
+     *
+     * @throws IllegalArgumentException If the non-null values are of more than one class
+     */
+    private static Class<?> elementTypeOf(List<?> values) {
+        Class<?> elementType = null;
+        for (Object value : values) {
+            if (isNull(value)) {
+                continue;
+            }
+            if (isNull(elementType)) {
+                elementType = value.getClass();
+            } else if (!elementType.equals(value.getClass())) {
+                throw new IllegalArgumentException("Values cannot be of mixed type");
+            }
+        }
+        return isNull(elementType) ? Object.class : elementType;
+    }
+
+    private static JavaType constructType(Class<?> rawClass) {
+        return ObjectMapperManager.getInstance().defaultMapper()
+                .getTypeFactory()
+                .constructType(rawClass);
+    }
+
+
+    /**
+     * A read-only view of the entries of a base list found at the positions of a selection vector.
+     */
+    private static final class SelectedValues<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> base;
+        private final SelectionVector selection;
+
+        private SelectedValues(List<T> base, SelectionVector selection) {
+            this.base = base;
+            this.selection = selection;
+        }
+
+        @Override
+        public T get(int index) {
+            return base.get(selection.get(index));
+        }
+
+        @Override
+        public int size() {
+            return selection.size();
+        }
+
+    }
+
 }
@@ -0,0 +1,135 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * A {@code Column} of {@code Integer} values backed by an {@code int[]}.
+ */
+public class IntColumn extends NumericColumn {
+
+    private final int[] data;
+
+
+    IntColumn(@NonNull String label, int @NonNull [] data, @NonNull ValidityBitmap validity) {
+        this(label, data, validity, null);
+    }
+
+    private IntColumn(@NonNull String label,
+                         int @NonNull [] data,
+                         @NonNull ValidityBitmap validity,
+                         @Nullable SelectionVector selection) {
+        super(label, validity, selection);
+        this.data = data;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or an {@code Integer}. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code IntColumn} from the provided input. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of nullable integers
+     * @return A new instance of {@code IntColumn}
+     */
+    public static IntColumn from(@NonNull String label, @NonNull List<?> values) {
+        int[] data = new int[values.size()];
+        for (int idx = 0; idx < data.length; idx++) {
+            Object value = values.get(idx);
+            if (!isNull(value)) {
+                data[idx] = (Integer) value;
+            }
+        }
+        return new IntColumn(label, data, ValidityBitmap.fromNullFlags(data.length, idx -> isNull(values.get(idx))));
+    }
+
+    public static IntColumn of(@NonNull String label, int @NonNull ... values) {
+        return new IntColumn(label, values.clone(), ValidityBitmap.allValid(values.length));
+    }
+
+    /**
+     * @param index An index within [0, size) whose entry is not null
+     * @return The primitive value stored at the index
+     */
+    public int intValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    public Type dataType() {
+        return Integer.class;
+    }
+
+    @Override
+    protected Object boxedValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    protected double doubleValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    protected boolean accepts(@Nullable Object value) {
+        return value instanceof Integer;
+    }
+
+    @Override
+    protected IntColumn withSelection(@NonNull String newLabel, @Nullable SelectionVector selection) {
+        return new IntColumn(newLabel, data, storageValidity(), selection);
+    }
+
+    @Override
+    protected IntColumn appendValues(@NonNull List<?> values) {
+        IntColumn other = from(label(), values);
+        int[] combined = new int[size() + other.size()];
+        for (int idx = 0; idx < size(); idx++) {
+            combined[idx] = data[position(idx)];
+        }
+        System.arraycopy(other.data, 0, combined, size(), other.size());
+        return new IntColumn(label(), combined, validity().append(other.validity()));
+    }
+
+    @Override
+    protected int compareNonNullAt(int index, int otherIndex) {
+        return Integer.compare(data[position(index)], data[position(otherIndex)]);
+    }
+
+    @Override
+    protected IntColumn sorted(boolean ascending) {
+        int nullCount = nullCount();
+        int[] nonNullValues = new int[size() - nullCount];
+        for (int idx = 0, next = 0; idx < size(); idx++) {
+            if (!isNullAt(idx)) {
+                nonNullValues[next++] = data[position(idx)];
+            }
+        }
+        Arrays.sort(nonNullValues);
+        int[] sortedValues = new int[size()];
+        for (int idx = 0; idx < nonNullValues.length; idx++) {
+            if (ascending) {
+                sortedValues[nullCount + idx] = nonNullValues[idx];
+            } else {
+                sortedValues[idx] = nonNullValues[nonNullValues.length - 1 - idx];
+            }
+        }
+        return new IntColumn(
+                label(),
+                sortedValues,
+                ValidityBitmap.fromNullFlags(size(), idx -> ascending ? idx < nullCount : idx >= nonNullValues.length)
+        );
+    }
+
+    @Override
+    protected IntColumn create(@NonNull String newLabel, @NonNull List<?> values) {
+        return from(newLabel, values);
+    }
+
+}
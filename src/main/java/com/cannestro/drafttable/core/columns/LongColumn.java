@@ -0,0 +1,135 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * A {@code Column} of {@code Long} values backed by a {@code long[]}.
+ */
+public class LongColumn extends NumericColumn {
+
+    private final long[] data;
+
+
+    LongColumn(@NonNull String label, long @NonNull [] data, @NonNull ValidityBitmap validity) {
+        this(label, data, validity, null);
+    }
+
+    private LongColumn(@NonNull String label,
+                          long @NonNull [] data,
+                          @NonNull ValidityBitmap validity,
+                          @Nullable SelectionVector selection) {
+        super(label, validity, selection);
+        this.data = data;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or a {@code Long}. </p>
+     * <p><b>Guarantees</b>: A new instance of {@code LongColumn} from the provided input. </p>
+     *
+     * @param label A non-null string
+     * @param values A list of nullable longs
+     * @return A new instance of {@code LongColumn}
+     */
+    public static LongColumn from(@NonNull String label, @NonNull List<?> values) {
+        long[] data = new long[values.size()];
+        for (int idx = 0; idx < data.length; idx++) {
+            Object value = values.get(idx);
+            if (!isNull(value)) {
+                data[idx] = (Long) value;
+            }
+        }
+        return new LongColumn(label, data, ValidityBitmap.fromNullFlags(data.length, idx -> isNull(values.get(idx))));
+    }
+
+    public static LongColumn of(@NonNull String label, long @NonNull ... values) {
+        return new LongColumn(label, values.clone(), ValidityBitmap.allValid(values.length));
+    }
+
+    /**
+     * @param index An index within [0, size) whose entry is not null
+     * @return The primitive value stored at the index
+     */
+    public long longValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    public Type dataType() {
+        return Long.class;
+    }
+
+    @Override
+    protected Object boxedValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    protected double doubleValueAt(int index) {
+        return data[position(index)];
+    }
+
+    @Override
+    protected boolean accepts(@Nullable Object value) {
+        return value instanceof Long;
+    }
+
+    @Override
+    protected LongColumn withSelection(@NonNull String newLabel, @Nullable SelectionVector selection) {
+        return new LongColumn(newLabel, data, storageValidity(), selection);
+    }
+
+    @Override
+    protected LongColumn appendValues(@NonNull List<?> values) {
+        LongColumn other = from(label(), values);
+        long[] combined = new long[size() + other.size()];
+        for (int idx = 0; idx < size(); idx++) {
+            combined[idx] = data[position(idx)];
+        }
+        System.arraycopy(other.data, 0, combined, size(), other.size());
+        return new LongColumn(label(), combined, validity().append(other.validity()));
+    }
+
+    @Override
+    protected int compareNonNullAt(int index, int otherIndex) {
+        return Long.compare(data[position(index)], data[position(otherIndex)]);
+    }
+
+    @Override
+    protected LongColumn sorted(boolean ascending) {
+        int nullCount = nullCount();
+        long[] nonNullValues = new long[size() - nullCount];
+        for (int idx = 0, next = 0; idx < size(); idx++) {
+            if (!isNullAt(idx)) {
+                nonNullValues[next++] = data[position(idx)];
+            }
+        }
+        Arrays.sort(nonNullValues);
+        long[] sortedValues = new long[size()];
+        for (int idx = 0; idx < nonNullValues.length; idx++) {
+            if (ascending) {
+                sortedValues[nullCount + idx] = nonNullValues[idx];
+            } else {
+                sortedValues[idx] = nonNullValues[nonNullValues.length - 1 - idx];
+            }
+        }
+        return new LongColumn(
+                label(),
+                sortedValues,
+                ValidityBitmap.fromNullFlags(size(), idx -> ascending ? idx < nullCount : idx >= nonNullValues.length)
+        );
+    }
+
+    @Override
+    protected LongColumn create(@NonNull String newLabel, @NonNull List<?> values) {
+        return from(newLabel, values);
+    }
+
+}
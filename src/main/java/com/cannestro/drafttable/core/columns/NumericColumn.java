@@ -0,0 +1,54 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.options.StatisticName;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.cannestro.drafttable.core.options.StatisticName.*;
+
+
+/**
+ * <p> Base class for primitive columns holding numbers, whose values can be widened to a {@code double} without boxing,
+ * e.g. to compute descriptive statistics. </p>
+ */
+public abstract class NumericColumn extends PrimitiveColumn {
+
+    protected NumericColumn(@NonNull String label, @NonNull ValidityBitmap validity, @Nullable SelectionVector selection) {
+        super(label, validity, selection);
+    }
+
+    /**
+     * @param index A valid index within [0, size)
+     * @return The value stored at the index, widened to a double
+     */
+    protected abstract double doubleValueAt(int index);
+
+    @Override
+    public Map<StatisticName, Number> descriptiveStats() {
+        if (size() == nullCount()) {
+            return Collections.emptyMap();
+        }
+        DescriptiveStatistics descriptiveStatistics = new DescriptiveStatistics();
+        for (int idx = 0; idx < size(); idx++) {
+            if (!isNullAt(idx)) {
+                descriptiveStatistics.addValue(doubleValueAt(idx));
+            }
+        }
+        return Map.of(
+                N, descriptiveStatistics.getN(),
+                MIN, descriptiveStatistics.getMin(),
+                MAX, descriptiveStatistics.getMax(),
+                MEAN, descriptiveStatistics.getMean(),
+                STANDARD_DEVIATION, descriptiveStatistics.getStandardDeviation(),
+                VARIANCE, descriptiveStatistics.getVariance(),
+                PERCENTILE_25, descriptiveStatistics.getPercentile(25),
+                PERCENTILE_50, descriptiveStatistics.getPercentile(50),
+                PERCENTILE_75, descriptiveStatistics.getPercentile(75)
+        );
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+
+/**
+ * <p> Sorts the positions [0, size) of a column or table by a comparison of positions, without boxing them. The sort is
+ * a stable merge sort, so that positions comparing as equal keep their ascending order. </p>
+ *
+ * <p> The parallel variant sorts one run per morsel concurrently and then merges adjacent runs pairwise, round after
+ * round. Each merge is itself split into independent pieces at co-ranked positions of its two runs, so that the last
+ * rounds, which merge only a few long runs, still keep every thread busy. The result is identical to that of the
+ * sequential sort. </p>
+ *
+ * <p> Selecting only the first few positions in order avoids the full sort: a bounded max-heap keeps the best
+ * candidates seen so far, at a cost of O(n log k). Ties are broken by position, so that the selection matches the
+ * prefix of the stable sort exactly. In parallel, every morsel selects its own candidates, and the final selection is
+ * made among those. </p>
+ */
+final class PositionSorter {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private PositionSorter() {}
+
+    /**
+     * @param size A non-negative integer
+     * @param comparator A comparison of two positions within [0, size)
+     * @return The positions [0, size), in stable sorted order
+     */
+    static int[] sort(int size, @NonNull IntBinaryOperator comparator) {
+        int[] sorted = IntStream.range(0, size).toArray();
+        mergeSort(sorted.clone(), sorted, 0, size, comparator);
+        return sorted;
+    }
+
+    /**
+     * @param size A non-negative integer
+     * @param comparator A comparison of two positions within [0, size), safe to call from several threads at once
+     * @param parallelOptions The pool, parallelism and sequential threshold, in positions, to use
+     * @return The positions [0, size), in stable sorted order
+     */
+    static int[] sort(int size, @NonNull IntBinaryOperator comparator, @NonNull ParallelOptions parallelOptions) {
+        if (!parallelOptions.shouldParallelize(size)) {
+            return sort(size, comparator);
+        }
+        int[] bounds = parallelOptions.partition(size);
+        int runCount = bounds.length - 1;
+        int[] source = IntStream.range(0, size).toArray();
+        int[] target = source.clone();
+        int[] scratch = source;
+        int[] sorted = target;
+        parallelOptions.invokeAll(IntStream.range(0, runCount)
+                .mapToObj(run -> (Callable<Void>) () -> {
+                    mergeSort(scratch, sorted, bounds[run], bounds[run + 1], comparator);
+                    return null;
+                })
+                .toList());
+        source = target;
+        target = scratch;
+        for (int width = 1; width < runCount; width *= 2) {
+            List<Callable<Void>> pieces = new ArrayList<>();
+            int mergeCount = (runCount + 2 * width - 1) / (2 * width);
+            int piecesPerMerge = Math.max(1, parallelOptions.parallelism() * ParallelOptions.MORSELS_PER_THREAD / mergeCount);
+            for (int run = 0; run < runCount; run += 2 * width) {
+                int from = bounds[run];
+                int middle = bounds[Math.min(run + width, runCount)];
+                int to = bounds[Math.min(run + 2 * width, runCount)];
+                pieces.addAll(mergeInPieces(source, from, middle, to, target, comparator, piecesPerMerge));
+            }
+            parallelOptions.invokeAll(pieces);
+            int[] merged = target;
+            target = source;
+            source = merged;
+        }
+        return source;
+    }
+
+    /**
+     * @param size A non-negative integer
+     * @param limit A non-negative integer
+     * @param comparator A comparison of two positions within [0, size)
+     * @return The first {@code min(limit, size)} positions of the stable sort of [0, size), in order
+     */
+    static int[] sortedPrefix(int size, int limit, @NonNull IntBinaryOperator comparator) {
+        if (limit >= size) {
+            return sort(size, comparator);
+        }
+        IntBinaryOperator totalOrder = breakingTiesByPosition(comparator);
+        int[] selected = selectSmallest(IntStream.range(0, size), limit, totalOrder);
+        mergeSort(selected.clone(), selected, 0, selected.length, totalOrder);
+        return selected;
+    }
+
+    /**
+     * @param size A non-negative integer
+     * @param limit A non-negative integer
+     * @param comparator A comparison of two positions within [0, size), safe to call from several threads at once
+     * @param parallelOptions The pool, parallelism and sequential threshold, in positions, to use
+     * @return The first {@code min(limit, size)} positions of the stable sort of [0, size), in order
+     */
+    static int[] sortedPrefix(int size, int limit, @NonNull IntBinaryOperator comparator, @NonNull ParallelOptions parallelOptions) {
+        if (!parallelOptions.shouldParallelize(size)) {
+            return sortedPrefix(size, limit, comparator);
+        }
+        if (limit >= size) {
+            return sort(size, comparator, parallelOptions);
+        }
+        IntBinaryOperator totalOrder = breakingTiesByPosition(comparator);
+        int[] bounds = parallelOptions.partition(size);
+        List<int[]> candidates = parallelOptions.invokeAll(IntStream.range(0, bounds.length - 1)
+                .mapToObj(morsel -> (Callable<int[]>) () -> selectSmallest(IntStream.range(bounds[morsel], bounds[morsel + 1]), limit, totalOrder))
+                .toList());
+        int[] selected = selectSmallest(candidates.stream().flatMapToInt(IntStream::of), limit, totalOrder);
+        mergeSort(selected.clone(), selected, 0, selected.length, totalOrder);
+        return selected;
+    }
+
+    private static IntBinaryOperator breakingTiesByPosition(IntBinaryOperator comparator) {
+        return (position, otherPosition) -> {
+            int comparison = comparator.applyAsInt(position, otherPosition);
+            return comparison != 0 ? comparison : Integer.compare(position, otherPosition);
+        };
+    }
+
+    /**
+     * Keeps the {@code limit} smallest positions under a total order in a bounded max-heap, whose root is the largest
+     * position kept so far and the first to be evicted.
+     *
+     * @return The smallest positions, in no particular order
+     */
+    private static int[] selectSmallest(IntStream positions, int limit, IntBinaryOperator totalOrder) {
+        int[] heap = new int[limit];
+        int[] heapSize = {0};
+        positions.forEachOrdered(position -> {
+            if (heapSize[0] < limit) {
+                heap[heapSize[0]] = position;
+                siftUp(heap, heapSize[0]++, totalOrder);
+            } else if (limit > 0 && totalOrder.applyAsInt(position, heap[0]) < 0) {
+                heap[0] = position;
+                siftDown(heap, limit, totalOrder);
+            }
+        });
+        return heapSize[0] == limit ? heap : Arrays.copyOf(heap, heapSize[0]);
+    }
+
+    private static void siftUp(int[] heap, int slot, IntBinaryOperator totalOrder) {
+        int position = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (totalOrder.applyAsInt(heap[parent], position) >= 0) {
+                break;
+            }
+            heap[slot] = heap[parent];
+            slot = parent;
+        }
+        heap[slot] = position;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, IntBinaryOperator totalOrder) {
+        int position = heap[0];
+        int slot = 0;
+        while (2 * slot + 1 < heapSize) {
+            int child = 2 * slot + 1;
+            if (child + 1 < heapSize && totalOrder.applyAsInt(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (totalOrder.applyAsInt(heap[child], position) <= 0) {
+                break;
+            }
+            heap[slot] = heap[child];
+            slot = child;
+        }
+        heap[slot] = position;
+    }
+
+    /**
+     * Splits the merge of the sorted runs [from, middle) and [middle, to) into independent pieces. Each piece starts at
+     * an evenly spaced position of the left run, paired with the first position of the right run that must not
+     * precede it, so that concatenating the merged pieces yields the stable merge of the two runs.
+     */
+    private static List<Callable<Void>> mergeInPieces(int[] source,
+                                                      int from,
+                                                      int middle,
+                                                      int to,
+                                                      int[] target,
+                                                      IntBinaryOperator comparator,
+                                                      int pieceCount) {
+        int[] leftSplits = new int[pieceCount + 1];
+        int[] rightSplits = new int[pieceCount + 1];
+        leftSplits[pieceCount] = middle;
+        rightSplits[pieceCount] = to;
+        leftSplits[0] = from;
+        rightSplits[0] = middle;
+        for (int piece = 1; piece < pieceCount; piece++) {
+            leftSplits[piece] = from + (int) ((long) (middle - from) * piece / pieceCount);
+            rightSplits[piece] = leftSplits[piece] < middle
+                    ? firstNotPreceding(source, middle, to, source[leftSplits[piece]], comparator)
+                    : to;
+        }
+        List<Callable<Void>> pieces = new ArrayList<>(pieceCount);
+        for (int piece = 0; piece < pieceCount; piece++) {
+            int leftFrom = leftSplits[piece];
+            int leftTo = leftSplits[piece + 1];
+            int rightFrom = rightSplits[piece];
+            int rightTo = Math.max(rightFrom, rightSplits[piece + 1]);
+            pieces.add(() -> {
+                mergeRuns(source, leftFrom, leftTo, rightFrom, rightTo, target, leftFrom + rightFrom - middle, comparator);
+                return null;
+            });
+        }
+        return pieces;
+    }
+
+    /**
+     * @return The first index within [from, to) whose position does not compare below the pivot, or {@code to}
+     */
+    private static int firstNotPreceding(int[] positions, int from, int to, int pivot, IntBinaryOperator comparator) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.applyAsInt(positions[middle], pivot) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * <p><b>Requires</b>: The source and target hold the same positions within [from, to). </p>
+     * <p><b>Guarantees</b>: The target holds the positions of [from, to) in stable sorted order. The source is used as
+     *                       scratch space. </p>
+     */
+    private static void mergeSort(int[] source, int[] target, int from, int to, IntBinaryOperator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(target, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle, comparator);
+        mergeSort(target, source, middle, to, comparator);
+        if (comparator.applyAsInt(source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+        merge(source, from, middle, to, target, comparator);
+    }
+
+    private static void merge(int[] source, int from, int middle, int to, int[] target, IntBinaryOperator comparator) {
+        mergeRuns(source, from, middle, middle, to, target, from, comparator);
+    }
+
+    /**
+     * Merges the sorted runs [leftFrom, leftTo) and [rightFrom, rightTo) of the source into the target, starting at the
+     * provided offset and preferring the left run on ties.
+     */
+    private static void mergeRuns(int[] source,
+                                  int leftFrom,
+                                  int leftTo,
+                                  int rightFrom,
+                                  int rightTo,
+                                  int[] target,
+                                  int offset,
+                                  IntBinaryOperator comparator) {
+        int left = leftFrom;
+        int right = rightFrom;
+        for (int idx = offset; left < leftTo || right < rightTo; idx++) {
+            if (right >= rightTo || (left < leftTo && comparator.applyAsInt(source[left], source[right]) <= 0)) {
+                target[idx] = source[left++];
+            } else {
+                target[idx] = source[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] positions, int from, int to, IntBinaryOperator comparator) {
+        for (int idx = from + 1; idx < to; idx++) {
+            int position = positions[idx];
+            int slot = idx;
+            while (slot > from && comparator.applyAsInt(positions[slot - 1], position) > 0) {
+                positions[slot] = positions[slot - 1];
+                slot--;
+            }
+            positions[slot] = position;
+        }
+    }
+
+}
@@ -0,0 +1,436 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.aggregations.FlexibleColumnGrouping;
+import com.cannestro.drafttable.core.options.SortingOrderType;
+import com.cannestro.drafttable.core.outbound.ColumnOutput;
+import com.cannestro.drafttable.core.outbound.DefaultColumnOutput;
+import com.cannestro.drafttable.supporting.utils.DraftTableUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hamcrest.Matcher;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeDataTypesMatch;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Base class for columns whose values are stored in a primitive array alongside a {@code ValidityBitmap}, rather
+ * than as a list of boxed objects. Values are only boxed when they are handed out through the generic {@code Column}
+ * API, e.g. {@code values()} or a {@code Matcher}. Numeric columns extend {@code NumericColumn}. </p>
+ */
+public abstract class PrimitiveColumn implements Column {
+
+    private static final String EXCEPTION_FORMAT_STRING = "Input type of the provided expression must match the Column data type: %s";
+
+    private final String label;
+    private final ValidityBitmap validity;
+    private final @Nullable SelectionVector selection;
+    private final List<Object> boxedValues = new BoxedValues();
+    private int nullCount = -1;
+
+
+    /**
+     * @param label A non-null string
+     * @param validity The validity of the underlying storage
+     * @param selection The positions of the underlying storage visible through this column, or null if all of them
+     *                  are visible in their natural order
+     */
+    protected PrimitiveColumn(@NonNull String label, @NonNull ValidityBitmap validity, @Nullable SelectionVector selection) {
+        this.label = label;
+        this.validity = validity;
+        this.selection = selection;
+    }
+
+    /**
+     * @param index A valid index within [0, size)
+     * @return The boxed value stored at the index
+     */
+    protected abstract Object boxedValueAt(int index);
+
+    /**
+     * <p><b>Guarantees</b>: A new column of the same type sharing the underlying storage of this column, exposing only
+     *                       the positions of the provided selection. </p>
+     */
+    protected abstract PrimitiveColumn withSelection(@NonNull String newLabel, @Nullable SelectionVector selection);
+
+    /**
+     * @param value Any object
+     * @return True if and only if the value can be stored by this column without conversion
+     */
+    protected abstract boolean accepts(@Nullable Object value);
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or accepted by this column. </p>
+     * <p><b>Guarantees</b>: A new column of the same type holding the current entries followed by the provided
+     *                       values. </p>
+     */
+    protected abstract PrimitiveColumn appendValues(@NonNull List<?> values);
+
+    /**
+     * <p><b>Requires</b>: Neither entry is null. </p>
+     *
+     * @return The comparison of the entries at the two indices, in natural order, without boxing
+     */
+    protected abstract int compareNonNullAt(int index, int otherIndex);
+
+    /**
+     * <p><b>Guarantees</b>: A new column of the same type with nulls first, followed by the non-null values in
+     *                       ascending order. Descending order reverses the entire ordering. </p>
+     */
+    protected abstract PrimitiveColumn sorted(boolean ascending);
+
+    /**
+     * <p><b>Requires</b>: Every value is either null or accepted by this column. </p>
+     * <p><b>Guarantees</b>: A new column of the same type holding the provided values. </p>
+     */
+    protected abstract PrimitiveColumn create(@NonNull String newLabel, @NonNull List<?> values);
+
+    /**
+     * @return The validity of the entries visible through this column
+     */
+    public ValidityBitmap validity() {
+        return isNull(selection) ? validity : validity.gather(selection);
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @return True if and only if the entry at the index is null
+     */
+    public boolean isNullAt(int index) {
+        return validity.isNull(position(index));
+    }
+
+    @Override
+    public int nullCount() {
+        if (nullCount < 0) {
+            if (isNull(selection) || !validity.hasNulls()) {
+                nullCount = isNull(selection) ? validity.nullCount() : 0;
+            } else {
+                nullCount = (int) IntStream.range(0, size()).filter(this::isNullAt).count();
+            }
+        }
+        return nullCount;
+    }
+
+    /**
+     * @return The validity of the underlying storage, regardless of which positions are visible through this column
+     */
+    protected ValidityBitmap storageValidity() {
+        return validity;
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @return The position within the underlying storage holding the entry at the index
+     */
+    protected int position(int index) {
+        return isNull(selection) ? index : selection.get(index);
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public <T> List<T> values() {
+        return (List<T>) boxedValues;
+    }
+
+    @Override
+    public <T> Supplier<T> firstValue() {
+        if (this.isEmpty()) {
+            throw new IndexOutOfBoundsException("The index is out of range (index < 0 || index >= size()) for size 0");
+        }
+        return () -> (T) values().get(0);
+    }
+
+    @Override
+    public <T> Supplier<T> lastValue() {
+        if (this.isEmpty()) {
+            throw new IndexOutOfBoundsException("The index is out of range (index < 0 || index >= size()) for size 0");
+        }
+        return () -> (T) values().get(size() - 1);
+    }
+
+    @Override
+    public int size() {
+        return isNull(selection) ? validity.size() : selection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean hasNulls() {
+        return nullCount() > 0;
+    }
+
+    @Override
+    public <T> boolean has(@NonNull T element) {
+        if (!accepts(element)) {
+            return false;
+        }
+        return IntStream.range(0, size()).anyMatch(idx -> !isNullAt(idx) && boxedValueAt(idx).equals(element));
+    }
+
+    @Override
+    public Column introspect(@NonNull UnaryOperator<Column> action) {
+        return action.apply(this);
+    }
+
+    @Override
+    public Column conditionalAction(@NonNull Predicate<Column> conditional,
+                                    @NonNull UnaryOperator<Column> actionIfTrue,
+                                    @NonNull UnaryOperator<Column> actionIfFalse) {
+        if (conditional.test(this)) {
+            return introspect(actionIfTrue);
+        }
+        return introspect(actionIfFalse);
+    }
+
+    @Override
+    public Column top(int n) {
+        return where(SelectionVector.range(0, DraftTableUtils.calculateEndpoint(n, size())));
+    }
+
+    @Override
+    public Column bottom(int n) {
+        return where(SelectionVector.range(size() - DraftTableUtils.calculateEndpoint(n, size()), size()));
+    }
+
+    @Override
+    public Column randomDraw(int n) {
+        return where(SelectionVector.of(
+                ThreadLocalRandom.current()
+                        .ints(0, size())
+                        .distinct()
+                        .limit(DraftTableUtils.calculateEndpoint(n, size()))
+                        .toArray()
+        ));
+    }
+
+    @Override
+    public <T> Column where(@NonNull Matcher<T> matcher) {
+        return where(positionsWhere(matcher));
+    }
+
+    @Override
+    public Column where(@NonNull List<Integer> indices) {
+        return where(SelectionVector.from(indices));
+    }
+
+    @Override
+    public <T, R> Column where(@NonNull Function<T, R> aspect, @NonNull Matcher<R> matcher) {
+        return where(positionsWhere(aspect, matcher));
+    }
+
+    @Override
+    public Column where(@NonNull SelectionVector selection) {
+        selection.checkBoundedBy(size());
+        return withSelection(label(), isNull(this.selection) ? selection : this.selection.compose(selection));
+    }
+
+    @Override
+    public <T> Column orderBy(@NonNull SortingOrderType sortingOrderType) {
+        return sorted(sortingOrderType.equals(SortingOrderType.ASCENDING));
+    }
+
+    @Override
+    public IntBinaryOperator positionComparator() {
+        return (index, otherIndex) -> {
+            boolean isNull = isNullAt(index);
+            boolean otherIsNull = isNullAt(otherIndex);
+            if (isNull || otherIsNull) {
+                return Boolean.compare(!isNull, !otherIsNull);
+            }
+            return compareNonNullAt(index, otherIndex);
+        };
+    }
+
+    @Override
+    public <T> Column orderBy(@NonNull Comparator<T> comparator) {
+        List<T> sortedValues = new ArrayList<>(this.<T>values());
+        sortedValues.sort(comparator);
+        return create(label(), sortedValues);
+    }
+
+    @Override
+    public <T> Column append(@Nullable T element) {
+        if (!isEmpty() && !hasNulls() && !isNull(element)) {
+            assumeDataTypesMatch(dataType(), element.getClass());
+        }
+        return appendAll(Collections.singletonList(element));
+    }
+
+    @Override
+    public <T> Column append(@NonNull List<T> otherCollection) {
+        if (!isEmpty() && !hasNulls()) {
+            otherCollection.forEach(element -> assumeDataTypesMatch(dataType(), element.getClass()));
+        }
+        return appendAll(otherCollection);
+    }
+
+    @Override
+    public Column append(@NonNull Column otherColumn) {
+        if (!this.hasNulls() && !otherColumn.isEmpty() && !otherColumn.hasNulls()) {
+            assumeDataTypesMatch(dataType(), otherColumn.dataType());
+        }
+        return appendAll(otherColumn.values());
+    }
+
+    @Override
+    public Column dropNulls() {
+        if (!hasNulls()) {
+            return this;
+        }
+        return where(SelectionVector.of(validity().validPositions()));
+    }
+
+    @Override
+    public <T> Column fillNullsWith(@NonNull T fillValue) {
+        if (!hasNulls()) {
+            return this;
+        }
+        List<Object> filledValues = values().stream().map(value -> isNull(value) ? fillValue : value).toList();
+        if (accepts(fillValue)) {
+            return create(label(), filledValues);
+        }
+        return new FlexibleColumn(label(), filledValues);
+    }
+
+    @Override
+    public <T> Column apply(@NonNull Consumer<T> consumer) {
+        try {
+            this.<T>values().forEach(consumer);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(String.format(EXCEPTION_FORMAT_STRING, dataType()));
+        }
+        return this;
+    }
+
+    @Override
+    public Column renameAs(@NonNull String newLabel) {
+        return withSelection(newLabel, selection);
+    }
+
+    @Override
+    public <T, R> Column transform(@NonNull Function<T, R> function) {
+        return transform(label(), function);
+    }
+
+    @Override
+    public <T, R> Column transform(@NonNull String newLabel, @NonNull Function<T, R> function) {
+        try {
+            return Columns.bestFitFor(newLabel, this.<T>values().stream().map(function).toList());
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(String.format(EXCEPTION_FORMAT_STRING, dataType()));
+        }
+    }
+
+    @Override
+    public <T> Optional<T> aggregate(@NonNull BinaryOperator<T> accumulator) {
+        try {
+            return this.<T>values().stream().reduce(accumulator);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(String.format(EXCEPTION_FORMAT_STRING, dataType()));
+        }
+    }
+
+    @Override
+    public <T> T aggregate(T identity, @NonNull BinaryOperator<T> accumulator) {
+        try {
+            return this.<T>values().stream().reduce(identity, accumulator);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(String.format(EXCEPTION_FORMAT_STRING, dataType()));
+        }
+    }
+
+    @Override
+    public <T, R> R aggregate(R identity,
+                              @NonNull BiFunction<R, ? super T, R> accumulator,
+                              @NonNull BinaryOperator<R> combiner) {
+        try {
+            return this.<T>values().stream().reduce(identity, accumulator, combiner);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(String.format(EXCEPTION_FORMAT_STRING, dataType()));
+        }
+    }
+
+    @Override
+    public FlexibleColumnSplitter split() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Cannot split an empty column.");
+        }
+        return new FlexibleColumnSplitter(this);
+    }
+
+    @Override
+    public FlexibleColumnGrouping group() {
+        return new FlexibleColumnGrouping(this);
+    }
+
+    @Override
+    public ColumnOutput write() {
+        return new DefaultColumnOutput(this);
+    }
+
+    Column appendAll(@NonNull List<?> otherValues) {
+        if (otherValues.stream().allMatch(value -> isNull(value) || accepts(value))) {
+            return appendValues(otherValues);
+        }
+        List<Object> combinedValues = new ArrayList<>(values());
+        combinedValues.addAll(otherValues);
+        return new FlexibleColumn(label(), combinedValues);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Column other && label.equals(other.label()) && values().equals(other.values());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(label, values());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("label", label())
+                .append("values", values())
+                .toString();
+    }
+
+
+    /**
+     * A read-only view boxing the primitive values on access.
+     */
+    private final class BoxedValues extends AbstractList<Object> implements RandomAccess {
+
+        @Override
+        public Object get(int index) {
+            Objects.checkIndex(index, size());
+            return isNullAt(index) ? null : boxedValueAt(index);
+        }
+
+        @Override
+        public int size() {
+            return PrimitiveColumn.this.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.options.ValidationMode;
+import org.jspecify.annotations.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.validationMode;
+
+
+/**
+ * <p> An immutable, ordered selection of positions within a column. Filtering a column by a selection vector yields a
+ * view over the parent's storage rather than a copy, and filtering a view composes the two selections so that chained
+ * filters never have to materialize intermediate results. </p>
+ */
+public final class SelectionVector {
+
+    private static final long UNKNOWN_BOUND = -1;
+
+    private final int[] positions;
+    private volatile long bound;
+
+
+    /**
+     * @param bound An exclusive upper bound known to hold for every position, all of which are non-negative, or
+     *              {@code UNKNOWN_BOUND} if the positions have not been checked
+     */
+    private SelectionVector(int[] positions, long bound) {
+        this.positions = positions;
+        this.bound = bound;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A selection of the provided positions, in the provided order. </p>
+     *
+     * @param positions Non-negative integers
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector of(int @NonNull ... positions) {
+        return new SelectionVector(positions.clone(), UNKNOWN_BOUND);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A selection of the provided indices, in the provided order. </p>
+     *
+     * @param indices A list of non-null, non-negative integers
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector from(@NonNull List<Integer> indices) {
+        return new SelectionVector(indices.stream().mapToInt(Integer::intValue).toArray(), UNKNOWN_BOUND);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A selection of every position in [startInclusive, endExclusive), in ascending order. </p>
+     *
+     * @param startInclusive A non-negative integer
+     * @param endExclusive An integer no smaller than the start
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector range(int startInclusive, int endExclusive) {
+        return new SelectionVector(IntStream.range(startInclusive, endExclusive).toArray(), startInclusive < 0 ? UNKNOWN_BOUND : endExclusive);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A selection of every position in [0, size) for which the predicate holds, in ascending
+     *                       order. No boxing takes place. </p>
+     *
+     * @param size A non-negative integer
+     * @param predicate A predicate over the positions [0, size)
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector matching(int size, @NonNull IntPredicate predicate) {
+        return new SelectionVector(IntStream.range(0, size).filter(predicate).toArray(), size);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A selection of every position in [0, size), ordered by the provided comparison of
+     *                       positions. The sort is stable: positions comparing as equal keep their ascending order. No
+     *                       boxing takes place. </p>
+     *
+     * @param size A non-negative integer
+     * @param comparator A comparison of two positions within [0, size)
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector sorted(int size, @NonNull IntBinaryOperator comparator) {
+        return new SelectionVector(PositionSorter.sort(size, comparator), size);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The same selection as {@link #sorted(int, IntBinaryOperator)}, computed by a parallel merge
+     *                       sort on the pool of the provided options once the size reaches their sequential
+     *                       threshold. </p>
+     *
+     * @param size A non-negative integer
+     * @param comparator A comparison of two positions within [0, size), safe to call from several threads at once
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector sorted(int size,
+                                         @NonNull IntBinaryOperator comparator,
+                                         @NonNull ParallelOptions parallelOptions) {
+        return new SelectionVector(PositionSorter.sort(size, comparator, parallelOptions), size);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The first {@code min(limit, size)} positions of {@link #sorted(int, IntBinaryOperator)},
+     *                       selected with a bounded heap in O(size log limit) rather than by a full sort. </p>
+     *
+     * @param size A non-negative integer
+     * @param limit A non-negative integer
+     * @param comparator A comparison of two positions within [0, size)
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector sortedPrefix(int size, int limit, @NonNull IntBinaryOperator comparator) {
+        return new SelectionVector(PositionSorter.sortedPrefix(size, limit, comparator), size);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The same selection as {@link #sortedPrefix(int, int, IntBinaryOperator)}. Once the size
+     *                       reaches the sequential threshold of the provided options, every morsel selects its own
+     *                       candidates in parallel and the final selection is made among those. </p>
+     *
+     * @param size A non-negative integer
+     * @param limit A non-negative integer
+     * @param comparator A comparison of two positions within [0, size), safe to call from several threads at once
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code SelectionVector}
+     */
+    public static SelectionVector sortedPrefix(int size,
+                                               int limit,
+                                               @NonNull IntBinaryOperator comparator,
+                                               @NonNull ParallelOptions parallelOptions) {
+        return new SelectionVector(PositionSorter.sortedPrefix(size, limit, comparator, parallelOptions), size);
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    public boolean isEmpty() {
+        return positions.length == 0;
+    }
+
+    /**
+     * @param index An index within [0, size)
+     * @return The selected position at the index
+     */
+    public int get(int index) {
+        return positions[index];
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A new selection equivalent to applying this selection first and the provided selection
+     *                       second, i.e. the i-th entry is {@code get(inner.get(i))}. </p>
+     *
+     * @param inner A selection whose positions are within [0, size)
+     * @return A new {@code SelectionVector}
+     */
+    public SelectionVector compose(@NonNull SelectionVector inner) {
+        int[] composed = new int[inner.positions.length];
+        for (int idx = 0; idx < composed.length; idx++) {
+            composed[idx] = positions[inner.positions[idx]];
+        }
+        return new SelectionVector(composed, bound);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every selected position lies within [0, bound), unless the current validation mode is
+     *                       {@code TRUSTED}. Selections built over a known size, e.g. by {@code range}, {@code matching}
+     *                       or {@code sorted}, are checked in constant time, and others scan their positions once, so
+     *                       that selecting every column of a table with the same selection costs a single scan. </p>
+     *
+     * @param bound The size of the column being selected from
+     * @throws IndexOutOfBoundsException If a selected position lies outside [0, bound)
+     */
+    public void checkBoundedBy(int bound) {
+        if (validationMode() == ValidationMode.TRUSTED || knownBound() <= bound) {
+            return;
+        }
+        for (int position : positions) {
+            if (position < 0 || position >= bound) {
+                throw new IndexOutOfBoundsException(
+                        String.format("Index %d out of bounds for length %d", position, bound)
+                );
+            }
+        }
+    }
+
+    /**
+     * Computed at most once per selection, unless concurrent callers race to compute the same value.
+     */
+    private long knownBound() {
+        if (bound == UNKNOWN_BOUND) {
+            long upperBound = 0;
+            for (int position : positions) {
+                if (position < 0) {
+                    upperBound = Long.MAX_VALUE;
+                    break;
+                }
+                upperBound = Math.max(upperBound, position + 1L);
+            }
+            bound = upperBound;
+        }
+        return bound;
+    }
+
+    /**
+     * @return A read-only, boxed view of the selected positions
+     */
+    public List<Integer> asList() {
+        return new PositionList();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof SelectionVector other && Arrays.equals(positions, other.positions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(positions);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(positions);
+    }
+
+
+    private final class PositionList extends AbstractList<Integer> implements RandomAccess {
+
+        @Override
+        public Integer get(int index) {
+            return positions[index];
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+
+    }
+
+}
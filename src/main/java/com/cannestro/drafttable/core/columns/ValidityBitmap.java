@@ -0,0 +1,173 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+
+/**
+ * <p> An immutable bitmap tracking which positions of a column hold a value (valid) and which hold a null. A set bit
+ * marks a valid entry. When every entry is valid no words are allocated at all. </p>
+ */
+public final class ValidityBitmap {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private final long[] words;
+    private final int size;
+    private final int nullCount;
+
+
+    private ValidityBitmap(long[] words, int size, int nullCount) {
+        this.words = words;
+        this.size = size;
+        this.nullCount = nullCount;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A bitmap of the provided size in which every entry is valid. </p>
+     *
+     * @param size A non-negative integer
+     * @return A new {@code ValidityBitmap}
+     */
+    public static ValidityBitmap allValid(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Input must be non-negative");
+        }
+        return new ValidityBitmap(null, size, 0);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A bitmap of the provided size in which an entry is null if and only if the predicate
+     *                       holds for its position. </p>
+     *
+     * @param size A non-negative integer
+     * @param isNullAt A predicate over the positions [0, size)
+     * @return A new {@code ValidityBitmap}
+     */
+    public static ValidityBitmap fromNullFlags(int size, @NonNull IntPredicate isNullAt) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Input must be non-negative");
+        }
+        long[] words = null;
+        int nullCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (isNullAt.test(i)) {
+                if (words == null) {
+                    words = allSetWords(size);
+                }
+                words[i >>> ADDRESS_BITS_PER_WORD] &= ~(1L << i);
+                nullCount++;
+            }
+        }
+        return new ValidityBitmap(words, size, nullCount);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int nullCount() {
+        return nullCount;
+    }
+
+    public boolean hasNulls() {
+        return nullCount > 0;
+    }
+
+    public boolean isValid(int position) {
+        return words == null || (words[position >>> ADDRESS_BITS_PER_WORD] & (1L << position)) != 0;
+    }
+
+    public boolean isNull(int position) {
+        return !isValid(position);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The valid positions in ascending order. The bitmap is scanned word by word, so that null
+     *                       entries are skipped up to 64 at a time. </p>
+     *
+     * @return A new array of positions within [0, size)
+     */
+    public int[] validPositions() {
+        int[] positions = new int[size - nullCount];
+        if (words == null) {
+            Arrays.setAll(positions, position -> position);
+            return positions;
+        }
+        int next = 0;
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            long word = words[wordIndex];
+            while (word != 0) {
+                int position = (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+                if (position >= size) {
+                    break;
+                }
+                positions[next++] = position;
+                word &= word - 1;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A new bitmap whose i-th entry is the validity of the entry at {@code positions.get(i)}. </p>
+     *
+     * @param positions A selection of positions within [0, size)
+     * @return A new {@code ValidityBitmap}
+     */
+    public ValidityBitmap gather(@NonNull SelectionVector positions) {
+        if (words == null) {
+            return allValid(positions.size());
+        }
+        return fromNullFlags(positions.size(), i -> isNull(positions.get(i)));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A new bitmap containing the entries of this bitmap followed by those of the other. </p>
+     *
+     * @param other Any {@code ValidityBitmap}
+     * @return A new {@code ValidityBitmap}
+     */
+    public ValidityBitmap append(@NonNull ValidityBitmap other) {
+        if (words == null && other.words == null) {
+            return allValid(size + other.size);
+        }
+        return fromNullFlags(size + other.size, i -> i < size ? isNull(i) : other.isNull(i - size));
+    }
+
+    private static long[] allSetWords(int size) {
+        long[] words = new long[((size - 1) >>> ADDRESS_BITS_PER_WORD) + 1];
+        Arrays.fill(words, -1L);
+        return words;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidityBitmap other) || size != other.size || nullCount != other.nullCount) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (isValid(i) != other.isValid(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * size + nullCount;
+        if (words != null) {
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + (isValid(i) ? 1 : 0);
+            }
+        }
+        return result;
+    }
+
+}
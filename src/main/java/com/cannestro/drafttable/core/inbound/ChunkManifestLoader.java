@@ -0,0 +1,175 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.core.outbound.ChunkManifest;
+import com.cannestro.drafttable.core.rows.Mappable;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.csv.CsvParsingOptions;
+import com.cannestro.drafttable.supporting.csv.assumptions.CsvAssumptions;
+import com.cannestro.drafttable.supporting.json.ObjectMapperManager;
+import com.cannestro.drafttable.supporting.json.assumptions.JsonAssumptions;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import static com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser.streamLines;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Loads a table exported in chunks, as described by its {@link ChunkManifest}, back into one {@code DraftTable}.
+ * The chunks are read in parallel on the pool of the provided {@code ParallelOptions} and concatenated in manifest
+ * order. For example:
+ * <pre>{@code
+ * ChunkManifest manifest = dt.write().toCsv(chunkingOptions);
+ * DraftTable reloaded = new ChunkManifestLoader().at(Path.of(chunkingOptions.constructFilenameForManifest()));
+ * }</pre>
+ * </p>
+ *
+ * <p> CSV chunks are collected as text and typed once all of them are read, so that type inference sees the whole
+ * table rather than each chunk on its own. JSON chunks are mapped onto a {@code Mappable} schema. </p>
+ */
+public class ChunkManifestLoader {
+
+    private final ParallelOptions parallelOptions;
+
+
+    public ChunkManifestLoader() {
+        this(ParallelOptions.allDefaults());
+    }
+
+    public ChunkManifestLoader(@NonNull ParallelOptions parallelOptions) {
+        this.parallelOptions = parallelOptions;
+    }
+
+    /**
+     * <p><b>Requires</b>: The manifest lists CSV-compatible chunks. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} with {@code String} data, named after the exported table. </p>
+     *
+     * @param manifestPath The path of the manifest file
+     * @return A new {@code DraftTable} instance
+     */
+    public DraftTable at(@NonNull Path manifestPath) {
+        return loadCsvChunks(manifestPath.toFile(), null);
+    }
+
+    /**
+     * <p><b>Requires</b>: The manifest lists CSV-compatible chunks, which the options are able to parse without a
+     *                     bean type. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable}, named after the exported table. Column types are inferred if the
+     *                       options ask for it. </p>
+     *
+     * @param manifestPath The path of the manifest file
+     * @param loadingOptions The CSV parsing options of every chunk
+     * @return A new {@code DraftTable} instance
+     */
+    public DraftTable at(@NonNull Path manifestPath, @NonNull CsvParsingOptions loadingOptions) {
+        return loadCsvChunks(manifestPath.toFile(), loadingOptions);
+    }
+
+    /**
+     * <p><b>Requires</b>: The manifest lists JSON chunks whose elements map onto the provided schema. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable}, named after the exported table. </p>
+     *
+     * @param manifestPath The path of the manifest file
+     * @param schema The class of every element
+     * @return A new {@code DraftTable} instance
+     */
+    public <M extends Mappable> DraftTable at(@NonNull Path manifestPath, @NonNull Class<M> schema) {
+        File manifestFile = manifestPath.toFile();
+        ChunkManifest manifest = ChunkManifest.readFrom(manifestFile);
+        JsonAssumptions.assumeExtensionIsJsonCompatible(manifest.extension());
+        DefaultJsonLoader jsonLoader = new DefaultJsonLoader();
+        List<DraftTable> chunks = readChunks(
+                manifestFile,
+                manifest,
+                chunkFile -> jsonLoader.load(chunkFile, schema, ObjectMapperManager.getInstance().defaultMapper())
+        );
+        return concatenate(manifest, chunks);
+    }
+
+    private DraftTable loadCsvChunks(File manifestFile, @Nullable CsvParsingOptions loadingOptions) {
+        ChunkManifest manifest = ChunkManifest.readFrom(manifestFile);
+        CsvAssumptions.assumeExtensionIsCsvCompatible(manifest.extension());
+        List<CsvColumnCollector> chunks = readChunks(manifestFile, manifest, chunkFile -> {
+            CsvColumnCollector collector = new CsvColumnCollector();
+            streamLines(chunkFile.getPath(), loadingOptions, collector);
+            return collector;
+        });
+        if (chunks.isEmpty()) {
+            return FlexibleDraftTable.create().emptyDraftTable().nameTable(manifest.tableName());
+        }
+        CsvColumnCollector collector = chunks.get(0);
+        chunks.subList(1, chunks.size()).forEach(collector::appendAll);
+        DraftTable draftTable = collector.toDraftTable(
+                manifest.tableName(),
+                isNull(loadingOptions) ? null : loadingOptions.typeInference()
+        );
+        assumeRowCountMatches(manifest, draftTable.rowCount());
+        return draftTable;
+    }
+
+    private <T> List<T> readChunks(File manifestFile, ChunkManifest manifest, Function<File, T> chunkReader) {
+        Path directory = manifestFile.toPath().toAbsolutePath().normalize().getParent();
+        List<Callable<T>> tasks = manifest.chunks().stream()
+                .map(chunk -> {
+                    File chunkFile = resolveWithin(directory, chunk.fileName());
+                    return (Callable<T>) () -> chunkReader.apply(chunkFile);
+                })
+                .toList();
+        return parallelOptions.invokeAll(tasks);
+    }
+
+    /**
+     * <p><b>Requires</b>: The file name is relative to the directory of the manifest and does not lead out of it. </p>
+     */
+    private static File resolveWithin(Path directory, String fileName) {
+        Path chunkPath = directory.resolve(fileName).normalize();
+        if (!chunkPath.startsWith(directory)) {
+            throw new IllegalArgumentException(String.format(
+                    "Assumption broken - The chunk %s lies outside of the manifest's directory %s.",
+                    fileName,
+                    directory
+            ));
+        }
+        return chunkPath.toFile();
+    }
+
+    /**
+     * Concatenates the columns of the chunks by name, following the column order of the manifest.
+     */
+    private static DraftTable concatenate(ChunkManifest manifest, List<DraftTable> chunks) {
+        int rowCount = chunks.stream().mapToInt(DraftTable::rowCount).sum();
+        assumeRowCountMatches(manifest, rowCount);
+        if (chunks.isEmpty()) {
+            return FlexibleDraftTable.create().emptyDraftTable().nameTable(manifest.tableName());
+        }
+        List<Column> columns = new ArrayList<>(manifest.columnNames().size());
+        for (String columnName : manifest.columnNames()) {
+            ColumnBuffer buffer = new ColumnBuffer(rowCount);
+            chunks.forEach(chunk -> chunk.select(columnName).values().forEach(buffer::add));
+            columns.add(buffer.toColumn(columnName));
+        }
+        return FlexibleDraftTable.create().fromColumns(manifest.tableName(), columns);
+    }
+
+    private static void assumeRowCountMatches(ChunkManifest manifest, long rowCount) {
+        if (manifest.rowCount() != rowCount) {
+            throw new IllegalArgumentException(String.format(
+                    "Assumption broken - The manifest lists %s rows, but its chunks hold %s.",
+                    manifest.rowCount(),
+                    rowCount
+            ));
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.core.columns.Columns;
+import com.cannestro.drafttable.supporting.options.FallbackPolicy;
+import com.cannestro.drafttable.supporting.options.InferredType;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
+import org.jspecify.annotations.NonNull;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Chooses the narrowest type able to represent a sample of a text column, then parses the whole column into that
+ * type once, so that later queries work on typed, and where possible primitive, values. </p>
+ */
+class ColumnTypeInferrer {
+
+    private ColumnTypeInferrer() {}
+
+    /**
+     * <p><b>Requires</b>: Every buffered value is either null or a {@code String}. </p>
+     * <p><b>Guarantees</b>: A buffer holding the parsed values. Text columns are returned unchanged, including any
+     *                       null tokens. </p>
+     *
+     * @param label The label of the column, used in error messages
+     * @param text The buffered text values of the column
+     * @param inferenceOptions The candidate types, sample size, null tokens and fallback policy to apply
+     * @return A buffer of parsed values
+     */
+    static ColumnBuffer parse(@NonNull String label,
+                              @NonNull ColumnBuffer text,
+                              @NonNull TypeInferenceOptions inferenceOptions) {
+        InferredType type = inferFromSample(text, inferenceOptions);
+        while (type != InferredType.STRING) {
+            ColumnBuffer parsed = tryParseAll(label, text, type, inferenceOptions);
+            if (!isNull(parsed)) {
+                return parsed;
+            }
+            type = widen(type, inferenceOptions);
+        }
+        return text;
+    }
+
+    /**
+     * <p><b>Requires</b>: Every buffered value is either null or a {@code String}. </p>
+     * <p><b>Guarantees</b>: The most compact column holding the parsed values. Text columns are dictionary-encoded if
+     *                       their distinct values are few enough, according to the options. </p>
+     *
+     * @param label The label of the column
+     * @param text The buffered text values of the column
+     * @param inferenceOptions The candidate types, sample size, null tokens, fallback policy and dictionary encoding
+     *                         ratio to apply
+     * @return A new {@code Column}
+     */
+    static Column toColumn(@NonNull String label,
+                           @NonNull ColumnBuffer text,
+                           @NonNull TypeInferenceOptions inferenceOptions) {
+        ColumnBuffer parsed = parse(label, text, inferenceOptions);
+        if (parsed != text) {
+            return parsed.toColumn(label);
+        }
+        return Columns.dictionaryEncodedIfCompact(label, text.release(), inferenceOptions.dictionaryEncodingRatio());
+    }
+
+    private static InferredType inferFromSample(ColumnBuffer text, TypeInferenceOptions inferenceOptions) {
+        for (InferredType candidate : InferredType.values()) {
+            if (candidate != InferredType.STRING
+                    && inferenceOptions.candidateTypes().contains(candidate)
+                    && sampleParsesAs(candidate, text, inferenceOptions)) {
+                return candidate;
+            }
+        }
+        return InferredType.STRING;
+    }
+
+    private static boolean sampleParsesAs(InferredType candidate, ColumnBuffer text, TypeInferenceOptions inferenceOptions) {
+        int sampled = 0;
+        for (int idx = 0; idx < text.size() && sampled < inferenceOptions.sampleSize(); idx++) {
+            String value = (String) text.get(idx);
+            if (isNullToken(value, inferenceOptions)) {
+                continue;
+            }
+            if (!candidate.canParse(value)) {
+                return false;
+            }
+            sampled++;
+        }
+        return sampled > 0;
+    }
+
+    /**
+     * @return The parsed values, or null if a value could not be parsed and the column should be widened instead
+     */
+    private static ColumnBuffer tryParseAll(String label,
+                                            ColumnBuffer text,
+                                            InferredType type,
+                                            TypeInferenceOptions inferenceOptions) {
+        ColumnBuffer parsed = new ColumnBuffer(text.size());
+        for (int idx = 0; idx < text.size(); idx++) {
+            String value = (String) text.get(idx);
+            if (isNullToken(value, inferenceOptions)) {
+                parsed.add(null);
+                continue;
+            }
+            try {
+                parsed.add(type.parse(value));
+            } catch (RuntimeException e) {
+                if (inferenceOptions.fallbackPolicy() == FallbackPolicy.NULL) {
+                    parsed.add(null);
+                } else if (inferenceOptions.fallbackPolicy() == FallbackPolicy.WIDEN) {
+                    return null;
+                } else {
+                    throw new IllegalArgumentException(String.format(
+                            "Assumption broken - Value '%s' at row %d of column '%s' is not of the inferred type %s",
+                            value, idx, label, type
+                    ), e);
+                }
+            }
+        }
+        return parsed;
+    }
+
+    private static InferredType widen(InferredType type, TypeInferenceOptions inferenceOptions) {
+        InferredType widened = type.widened();
+        while (!inferenceOptions.candidateTypes().contains(widened)) {
+            widened = widened.widened();
+        }
+        return widened;
+    }
+
+    private static boolean isNullToken(String value, TypeInferenceOptions inferenceOptions) {
+        return isNull(value) || inferenceOptions.nullTokens().contains(value);
+    }
+
+}
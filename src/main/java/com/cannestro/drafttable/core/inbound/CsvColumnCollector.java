@@ -0,0 +1,120 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeSizesMatch;
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniquenessOf;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Receives CSV records one at a time and distributes their fields directly into one {@code ColumnBuffer} per
+ * header. The first record received is treated as the header line. </p>
+ */
+class CsvColumnCollector implements Consumer<String[]> {
+
+    private List<String> headers;
+    private ColumnBuffer[] buffers;
+
+
+    @Override
+    public void accept(String @NonNull [] line) {
+        if (isNull(headers)) {
+            headers = List.of(line);
+            assumeUniquenessOf(headers);
+            buffers = new ColumnBuffer[line.length];
+            Arrays.setAll(buffers, idx -> new ColumnBuffer());
+            return;
+        }
+        assumeSizesMatch(headers, Arrays.asList(line));
+        for (int idx = 0; idx < line.length; idx++) {
+            buffers[idx].add(line[idx]);
+        }
+    }
+
+    /**
+     * <p><b>Requires</b>: The header line has been received and every chunk holds one buffer per header. </p>
+     * <p><b>Guarantees</b>: The values of the chunks are appended, in order, after those already collected. Buffers
+     *                       are adopted as-is while nothing has been collected for their column, and otherwise copied
+     *                       exactly once into a buffer sized for all the chunks. </p>
+     *
+     * @param chunks Column buffers filled elsewhere, e.g. by parsing slices of the file on other threads
+     */
+    void appendAll(@NonNull List<ColumnBuffer[]> chunks) {
+        for (int idx = 0; idx < buffers.length; idx++) {
+            int column = idx;
+            int totalSize = buffers[idx].size() + chunks.stream().mapToInt(chunk -> chunk[column].size()).sum();
+            for (ColumnBuffer[] chunk : chunks) {
+                if (buffers[idx].isEmpty()) {
+                    buffers[idx] = chunk[idx];
+                } else {
+                    buffers[idx].ensureCapacity(totalSize);
+                    buffers[idx].addAll(chunk[idx]);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p><b>Requires</b>: Both collectors have received the same header line. </p>
+     * <p><b>Guarantees</b>: The values collected by the other collector are appended after those of this one. Its
+     *                       buffers may be adopted, so the other collector must not be used afterwards. </p>
+     *
+     * @param other A collector filled from another file, e.g. another chunk of the same table
+     */
+    void appendAll(@NonNull CsvColumnCollector other) {
+        if (isNull(other.headers)) {
+            return;
+        }
+        if (!other.headers.equals(headers)) {
+            throw new IllegalArgumentException(String.format(
+                    "Assumption broken - The header lines %s and %s do not match.",
+                    headers,
+                    other.headers
+            ));
+        }
+        appendAll(List.<ColumnBuffer[]>of(other.buffers));
+    }
+
+    /**
+     * @return The number of headers received, or zero if the header line has not been received yet
+     */
+    int columnCount() {
+        return isNull(headers) ? 0 : headers.size();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A new {@code DraftTable} whose columns follow the order of the header line. The table is
+     *                       completely empty if no header line was received. </p>
+     *
+     * @param tableName A non-null string
+     * @param inferenceOptions The type inference and dictionary encoding to apply to every column, or null to keep
+     *                         {@code String} data
+     * @return A new {@code DraftTable}
+     */
+    DraftTable toDraftTable(@NonNull String tableName, @Nullable TypeInferenceOptions inferenceOptions) {
+        if (isNull(headers)) {
+            return FlexibleDraftTable.create().emptyDraftTable().nameTable(tableName);
+        }
+        List<Column> columns = new ArrayList<>(headers.size());
+        for (int idx = 0; idx < buffers.length; idx++) {
+            columns.add(isNull(inferenceOptions)
+                    ? buffers[idx].toColumn(headers.get(idx))
+                    : ColumnTypeInferrer.toColumn(headers.get(idx), buffers[idx], inferenceOptions));
+            buffers[idx] = null;
+        }
+        return FlexibleDraftTable.create().fromColumns(tableName, columns);
+    }
+
+}
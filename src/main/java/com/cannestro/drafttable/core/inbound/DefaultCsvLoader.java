@@ -2,7 +2,6 @@ package com.cannestro.drafttable.core.inbound;
 
 import com.cannestro.drafttable.core.rows.Mappable;
 import com.cannestro.drafttable.core.tables.DraftTable;
-import com.cannestro.drafttable.core.rows.HashMapRow;
 import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
 import com.cannestro.drafttable.supporting.csv.assumptions.CsvAssumptions;
 import com.cannestro.drafttable.supporting.csv.CsvBean;
@@ -16,16 +15,10 @@ import org.jspecify.annotations.Nullable;
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.stream.IntStream;
 
 import static com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser.buildBeansFrom;
-import static com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser.readAllLines;
+import static com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser.streamLines;
 import static com.cannestro.drafttable.supporting.utils.FileUtils.copyToTempDirectory;
-import static com.cannestro.drafttable.supporting.utils.ListUtils.firstElementOf;
-import static com.cannestro.drafttable.supporting.utils.MapUtils.zip;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.nCopies;
 import static java.util.Objects.isNull;
 
 
@@ -87,28 +80,17 @@ public class DefaultCsvLoader implements CsvLoader {
         );
     }
 
+    /**
+     * <p><b>Guarantees</b>: The records of the CSV are streamed straight into per-column buffers, so that no row
+     *                       representation of the file is ever held in memory. Column types are inferred if the
+     *                       options ask for it. </p>
+     */
     DraftTable createWithoutSchema(@NonNull String pathToFile, @Nullable CsvParsingOptions loadingOptions) {
-        List<List<String>> fullTable = isNull(loadingOptions)
-                ? readAllLines(pathToFile)
-                : readAllLines(pathToFile, loadingOptions);
-        if (fullTable.isEmpty()) {
-            return FlexibleDraftTable.create()
-                    .emptyDraftTable()
-                    .nameTable(FilenameUtils.getName(pathToFile));
-        }
-        List<String> headers = firstElementOf(fullTable);
-        List<List<String>> tableData = fullTable.subList(1, fullTable.size());
-        if (tableData.isEmpty()) {
-            return FlexibleDraftTable.create()
-                    .fromColumnValues(headers, nCopies(headers.size(), emptyList()))
-                    .nameTable(FilenameUtils.getName(pathToFile));
-        }
-        return FlexibleDraftTable.create().fromRows(
+        CsvColumnCollector collector = new CsvColumnCollector();
+        streamLines(pathToFile, loadingOptions, collector);
+        return collector.toDraftTable(
                 FilenameUtils.getName(pathToFile),
-                IntStream.range(1, tableData.size())
-                        .mapToObj(rowIndex -> zip(headers, tableData.get(rowIndex)))
-                        .map(HashMapRow::new)
-                        .toList()
+                isNull(loadingOptions) ? null : loadingOptions.typeInference()
         );
     }
 
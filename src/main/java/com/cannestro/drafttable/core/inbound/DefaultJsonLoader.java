@@ -2,22 +2,33 @@ package com.cannestro.drafttable.core.inbound;
 
 import com.cannestro.drafttable.core.rows.Mappable;
 import com.cannestro.drafttable.core.tables.DraftTable;
-import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
 import com.cannestro.drafttable.supporting.utils.FileUtils;
 import com.cannestro.drafttable.supporting.json.ObjectMapperManager;
 import com.cannestro.drafttable.supporting.utils.NetUtils;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.core.exc.JacksonIOException;
 import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.isNull;
 
 
 /**
+ * <p> Loads a JSON array of objects by streaming its tokens: every element is read, and its fields are distributed into
+ * per-column buffers, before the next element is, so that neither the whole list of elements nor a row per element is
+ * ever held in memory. A single top-level object is read as an array of one element. </p>
+ *
  * @author Victor Cannestro
  */
 public class DefaultJsonLoader implements JsonLoader {
@@ -35,14 +46,67 @@ public class DefaultJsonLoader implements JsonLoader {
         return draftTable;
     }
 
+    @Override
+    public DraftTable at(@NonNull Path path) {
+        return load(path.toFile(), (TypeInferenceOptions) null, ObjectMapperManager.getInstance().defaultMapper());
+    }
+
+    @Override
+    public DraftTable at(@NonNull Path path, @NonNull TypeInferenceOptions inferenceOptions) {
+        return load(path.toFile(), inferenceOptions, ObjectMapperManager.getInstance().defaultMapper());
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every element is bound to the schema, one at a time, and its {@code asMap()} entries are
+     *                       collected as a row. </p>
+     */
     public <M extends Mappable> DraftTable load(@NonNull File file,
                                                 @NonNull Class<M> schema,
                                                 @NonNull ObjectMapper mapper) {
+        ObjectReader elementReader = mapper.readerFor(schema).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        return stream(file, mapper, null, (parser, collector) -> collector.accept(elementReader.<M>readValue(parser).asMap()));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every element is read token by token, with JSON strings, numbers and booleans kept as
+     *                       {@code String}, {@code Integer}, {@code Long}, {@code Double} and {@code Boolean} values.
+     *                       Text columns are parsed into narrower types if inference options are provided. </p>
+     */
+    public DraftTable load(@NonNull File file,
+                           @Nullable TypeInferenceOptions inferenceOptions,
+                           @NonNull ObjectMapper mapper) {
+        return stream(file, mapper, inferenceOptions, (parser, collector) -> collector.accept(parser));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every object of the file is handed, in file order, to the element reader along with the
+     *                       collector of the table. </p>
+     */
+    DraftTable stream(@NonNull File file,
+                      @NonNull ObjectMapper mapper,
+                      @Nullable TypeInferenceOptions inferenceOptions,
+                      @NonNull BiConsumer<JsonParser, JsonColumnCollector> elementReader) {
+        JsonColumnCollector collector = new JsonColumnCollector();
+        translatingJacksonExceptions(() -> {
+            try (JsonParser parser = mapper.createParser(file)) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                        assumeElementIsObject(token);
+                        elementReader.accept(parser, collector);
+                    }
+                } else if (!isNull(token)) {
+                    assumeElementIsObject(token);
+                    elementReader.accept(parser, collector);
+                }
+            }
+        });
+        return collector.toDraftTable(file.getName(), inferenceOptions);
+    }
+
+    static void translatingJacksonExceptions(@NonNull Runnable parsing) {
         try {
-            return FlexibleDraftTable.create().fromObjects(
-                    file.getName(),
-                    mapper.readValue(file, mapper.getTypeFactory().constructCollectionType(List.class, schema))
-            );
+            parsing.run();
         } catch (DatabindException databindException) {
             throw new IllegalArgumentException("The input JSON structure does not match structure expected for result type (or has other mismatch).", databindException);
         } catch (JacksonIOException ioException) {
@@ -50,4 +114,10 @@ public class DefaultJsonLoader implements JsonLoader {
         }
     }
 
+    private static void assumeElementIsObject(JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Assumption broken - Every element of the JSON array must be an object, but found: " + token);
+        }
+    }
+
 }
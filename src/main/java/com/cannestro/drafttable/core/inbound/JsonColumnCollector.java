@@ -0,0 +1,194 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Receives JSON objects one at a time and distributes their fields directly into one {@code ColumnBuffer} per
+ * field name. Columns follow the order in which their names first appear. A field missing from an object, or first
+ * appearing after some objects were already received, is null for those objects. </p>
+ */
+class JsonColumnCollector {
+
+    private final Map<String, Integer> positionOfName = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<ColumnBuffer> buffers = new ArrayList<>();
+    private int rowCount;
+
+
+    /**
+     * <p><b>Requires</b>: The parser's current token starts an object. </p>
+     * <p><b>Guarantees</b>: The fields of the object are collected as the next row, and the parser's current token
+     *                       ends the object. Nested objects and arrays are bound to maps and lists. </p>
+     *
+     * @param parser A parser positioned at the start of an object
+     */
+    void accept(@NonNull JsonParser parser) {
+        for (String name = parser.nextName(); !isNull(name); name = parser.nextName()) {
+            parser.nextToken();
+            put(name, readValue(parser));
+        }
+        completeRow();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The entries of the map are collected as the next row. </p>
+     *
+     * @param valueMap The values of a row, by column name
+     */
+    void accept(@NonNull Map<String, ?> valueMap) {
+        valueMap.forEach(this::put);
+        completeRow();
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A new {@code DraftTable} holding the collected rows. Numeric columns mixing integral and
+     *                       decimal values are widened to a single type. Text columns are parsed into narrower types,
+     *                       and possibly dictionary-encoded, if inference options are provided. </p>
+     *
+     * @param tableName A non-null string
+     * @param inferenceOptions The type inference to apply to text columns, or null to keep them as-is
+     * @return A new {@code DraftTable}
+     */
+    DraftTable toDraftTable(@NonNull String tableName, @Nullable TypeInferenceOptions inferenceOptions) {
+        if (names.isEmpty()) {
+            return FlexibleDraftTable.create().emptyDraftTable().nameTable(tableName);
+        }
+        List<Column> columns = new ArrayList<>(names.size());
+        for (int idx = 0; idx < names.size(); idx++) {
+            ColumnBuffer buffer = withNumbersWidened(buffers.get(idx));
+            columns.add(!isNull(inferenceOptions) && holdsOnlyText(buffer)
+                    ? ColumnTypeInferrer.toColumn(names.get(idx), buffer, inferenceOptions)
+                    : buffer.toColumn(names.get(idx)));
+            buffers.set(idx, null);
+        }
+        return FlexibleDraftTable.create().fromColumns(tableName, columns);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The rows collected by the other collector are appended after those of this one. Columns
+     *                       present in only one of the collectors are null for the rows of the other. </p>
+     *
+     * @param other A collector filled from another part of the same input, e.g. a later range of lines
+     */
+    void appendAll(@NonNull JsonColumnCollector other) {
+        for (int idx = 0; idx < other.names.size(); idx++) {
+            buffers.get(positionOf(other.names.get(idx))).addAll(other.buffers.get(idx));
+        }
+        rowCount += other.rowCount;
+        padToRowCount();
+    }
+
+    private void put(String name, @Nullable Object value) {
+        ColumnBuffer buffer = buffers.get(positionOf(name));
+        if (buffer.size() > rowCount) {
+            buffer.set(rowCount, value);
+        } else {
+            buffer.add(value);
+        }
+    }
+
+    /**
+     * Columns first appearing after some rows were collected are back-filled with nulls for those rows.
+     */
+    private int positionOf(String name) {
+        Integer position = positionOfName.get(name);
+        if (isNull(position)) {
+            position = names.size();
+            positionOfName.put(name, position);
+            names.add(name);
+            ColumnBuffer buffer = new ColumnBuffer(Math.max(16, rowCount + 1));
+            for (int row = 0; row < rowCount; row++) {
+                buffer.add(null);
+            }
+            buffers.add(buffer);
+        }
+        return position;
+    }
+
+    private void completeRow() {
+        rowCount++;
+        padToRowCount();
+    }
+
+    private void padToRowCount() {
+        for (ColumnBuffer buffer : buffers) {
+            while (buffer.size() < rowCount) {
+                buffer.add(null);
+            }
+        }
+    }
+
+    private static @Nullable Object readValue(JsonParser parser) {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> parser.getIntValue();
+                case LONG -> parser.getLongValue();
+                default -> parser.getBigIntegerValue();
+            };
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> parser.readValueAs(Object.class);
+        };
+    }
+
+    private static boolean holdsOnlyText(ColumnBuffer buffer) {
+        boolean hasText = false;
+        for (int idx = 0; idx < buffer.size(); idx++) {
+            Object value = buffer.get(idx);
+            if (!isNull(value)) {
+                if (!(value instanceof String)) {
+                    return false;
+                }
+                hasText = true;
+            }
+        }
+        return hasText;
+    }
+
+    /**
+     * JSON does not distinguish integral from decimal numbers, so a column may mix e.g. {@code 1} and {@code 2.5}.
+     * Such a column is converted to {@code Long} if every value is integral and fits, otherwise to {@code Double}.
+     */
+    private static ColumnBuffer withNumbersWidened(ColumnBuffer buffer) {
+        Set<Class<?>> numberTypes = new HashSet<>();
+        for (int idx = 0; idx < buffer.size(); idx++) {
+            Object value = buffer.get(idx);
+            if (!isNull(value)) {
+                if (!(value instanceof Number)) {
+                    return buffer;
+                }
+                numberTypes.add(value.getClass());
+            }
+        }
+        if (numberTypes.size() < 2) {
+            return buffer;
+        }
+        boolean integral = Set.of(Integer.class, Long.class).containsAll(numberTypes);
+        ColumnBuffer widened = new ColumnBuffer(buffer.size());
+        for (int idx = 0; idx < buffer.size(); idx++) {
+            Number value = (Number) buffer.get(idx);
+            widened.add(isNull(value) ? null : integral ? (Object) value.longValue() : (Object) value.doubleValue());
+        }
+        return widened;
+    }
+
+}
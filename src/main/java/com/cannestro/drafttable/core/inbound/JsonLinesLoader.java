@@ -0,0 +1,153 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.supporting.options.ParallelOptions.MORSELS_PER_THREAD;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> A {@code JsonLoader} for JSON Lines (a.k.a. NDJSON) input, i.e. one JSON object per line rather than a JSON array.
+ * Since records never span lines, the file is split into byte ranges cut just after line feeds, and the ranges are
+ * parsed in parallel on the pool of the provided {@code ParallelOptions}. The rows of every range are then appended in
+ * file order. For example:
+ * <pre>{@code
+ * DraftTable events = FlexibleDraftTable.create().fromJsonLines().at(Path.of("events.ndjson"));
+ * }</pre>
+ * </p>
+ *
+ * <p> Blank lines are skipped. Files smaller than the sequential threshold are parsed as a single range on the calling
+ * thread. </p>
+ */
+public class JsonLinesLoader extends DefaultJsonLoader {
+
+    private static final byte LINE_FEED = '\n';
+    private static final int SCAN_WINDOW_BYTES = 1 << 13;
+
+    private final ParallelOptions parallelOptions;
+
+
+    public JsonLinesLoader() {
+        this(ParallelOptions.allDefaults());
+    }
+
+    public JsonLinesLoader(@NonNull ParallelOptions parallelOptions) {
+        this.parallelOptions = parallelOptions;
+    }
+
+    @Override
+    DraftTable stream(@NonNull File file,
+                      @NonNull ObjectMapper mapper,
+                      @Nullable TypeInferenceOptions inferenceOptions,
+                      @NonNull BiConsumer<JsonParser, JsonColumnCollector> elementReader) {
+        long[] bounds = lineAlignedBounds(file.toPath(), file.length());
+        List<JsonColumnCollector> ranges = bounds.length == 2
+                ? List.of(parseRange(file.toPath(), bounds[0], bounds[1], mapper, elementReader))
+                : parallelOptions.invokeAll(
+                        IntStream.range(0, bounds.length - 1)
+                                .mapToObj(range -> (Callable<JsonColumnCollector>) () -> parseRange(file.toPath(), bounds[range], bounds[range + 1], mapper, elementReader))
+                                .toList()
+                );
+        JsonColumnCollector collector = ranges.get(0);
+        ranges.stream().skip(1).forEach(collector::appendAll);
+        return collector.toDraftTable(file.getName(), inferenceOptions);
+    }
+
+    private static JsonColumnCollector parseRange(Path file,
+                                                  long start,
+                                                  long end,
+                                                  ObjectMapper mapper,
+                                                  BiConsumer<JsonParser, JsonColumnCollector> elementReader) {
+        JsonColumnCollector collector = new JsonColumnCollector();
+        translatingJacksonExceptions(() -> {
+            try (InputStream range = openRange(file, start, end); JsonParser parser = mapper.createParser(range)) {
+                for (JsonToken token = parser.nextToken(); !isNull(token); token = parser.nextToken()) {
+                    assumeLineIsObject(token);
+                    elementReader.accept(parser, collector);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return collector;
+    }
+
+    private static InputStream openRange(Path file, long start, long end) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        in.skipNBytes(start);
+        return BoundedInputStream.builder()
+                .setInputStream(in)
+                .setMaxCount(end - start)
+                .get();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Ascending bounds covering [0, size), each but the first and last sitting just after a line
+     *                       feed. There are several ranges per thread, none smaller than the sequential threshold, and
+     *                       a single range if the file should not be parallelized. </p>
+     */
+    private long[] lineAlignedBounds(Path file, long size) {
+        if (!parallelOptions.shouldParallelize(size)) {
+            return new long[] {0, size};
+        }
+        long maxRanges = (long) parallelOptions.parallelism() * MORSELS_PER_THREAD;
+        int rangeCount = (int) Math.max(1, Math.min(maxRanges, size / Math.max(1, parallelOptions.sequentialThreshold())));
+        long[] bounds = new long[rangeCount + 1];
+        bounds[rangeCount] = size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int range = 1; range < rangeCount; range++) {
+                long nominalStart = Math.max(size * range / rangeCount, bounds[range - 1]);
+                bounds[range] = nominalStart == 0 ? 0 : nextLineStart(channel, nominalStart - 1, size);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return bounds;
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW_BYTES);
+        for (long position = from; position < size; position += window.limit()) {
+            window.clear();
+            if (channel.read(window, position) <= 0) {
+                break;
+            }
+            window.flip();
+            for (int idx = 0; idx < window.limit(); idx++) {
+                if (window.get(idx) == LINE_FEED) {
+                    return position + idx + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void assumeLineIsObject(JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Assumption broken - Every line of the JSON Lines input must hold an object, but found: " + token);
+        }
+    }
+
+}
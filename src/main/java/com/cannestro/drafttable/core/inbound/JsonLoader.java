@@ -2,6 +2,7 @@ package com.cannestro.drafttable.core.inbound;
 
 import com.cannestro.drafttable.core.rows.Mappable;
 import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
 import org.jspecify.annotations.NonNull;
 
 import java.net.URI;
@@ -14,4 +15,26 @@ public interface JsonLoader {
 
     <M extends Mappable> DraftTable at(@NonNull URI uri, @NonNull Class<M> schema);
 
+    /**
+     * <p><b>Requires</b>: The JSON holds an array of objects. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} instance will be created without a schema. Columns are named after
+     *                       the fields of the objects, in order of first appearance, and hold their JSON-native
+     *                       values. </p>
+     *
+     * @param path The path of the JSON file
+     * @return A new {@code DraftTable} instance
+     */
+    DraftTable at(@NonNull Path path);
+
+    /**
+     * <p><b>Requires</b>: The JSON holds an array of objects. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} instance will be created without a schema, whose text columns are
+     *                       parsed into the narrowest type the options allow. </p>
+     *
+     * @param path The path of the JSON file
+     * @param inferenceOptions The type inference to apply to text columns
+     * @return A new {@code DraftTable} instance
+     */
+    DraftTable at(@NonNull Path path, @NonNull TypeInferenceOptions inferenceOptions);
+
 }
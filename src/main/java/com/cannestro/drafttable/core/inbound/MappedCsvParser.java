@@ -0,0 +1,302 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.supporting.csv.CsvParsingOptions;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeSizesMatch;
+import static com.cannestro.drafttable.supporting.options.ParallelOptions.MORSELS_PER_THREAD;
+
+
+/**
+ * <p> Parses a CSV file by memory-mapping it and splitting it into segments that are parsed in parallel. Segments are
+ * cut at record boundaries, i.e. at line feeds that are not inside a quoted field. Whether a segment starts inside a
+ * quoted field is known from the parity of the quote characters preceding it, which is computed for every segment in
+ * parallel and then combined with a prefix xor. </p>
+ *
+ * <p> The supported dialect is RFC 4180 with a configurable delimiter and quote character: quotes inside a quoted field
+ * are escaped by doubling them, fields may span lines, and lines may end with CRLF. Options outside of this dialect are
+ * reported by {@link #supports(CsvParsingOptions)}, in which case callers should parse sequentially instead. </p>
+ */
+class MappedCsvParser {
+
+    private static final long MAX_SEGMENT_BYTES = 1L << 28;
+    private static final int SCAN_WINDOW_BYTES = 1 << 20;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final Set<Charset> ASCII_COMPATIBLE_CHARSETS = Set.of(
+            StandardCharsets.UTF_8,
+            StandardCharsets.US_ASCII,
+            StandardCharsets.ISO_8859_1
+    );
+
+    private final FileChannel channel;
+    private final long size;
+    private final byte delimiter;
+    private final byte quote;
+    private final boolean quotingEnabled;
+    private final Charset charset;
+    private final int skipLines;
+
+
+    private MappedCsvParser(FileChannel channel, CsvParsingOptions loadingOptions) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.delimiter = (byte) loadingOptions.delimiter().charValue();
+        this.quote = (byte) loadingOptions.quoteCharacter().charValue();
+        this.quotingEnabled = !loadingOptions.ignoreQuotations();
+        this.charset = loadingOptions.charset();
+        this.skipLines = loadingOptions.skipLines();
+    }
+
+    /**
+     * @param loadingOptions Any parsing options
+     * @return True if and only if the options describe a dialect this parser reproduces faithfully
+     */
+    static boolean supports(@NonNull CsvParsingOptions loadingOptions) {
+        char delimiter = loadingOptions.delimiter();
+        char quote = loadingOptions.quoteCharacter();
+        char escape = loadingOptions.escapeCharacter();
+        return ASCII_COMPATIBLE_CHARSETS.contains(loadingOptions.charset())
+                && isSingleByteSeparator(delimiter)
+                && isSingleByteSeparator(quote)
+                && delimiter != quote
+                && (escape == '\n' || escape == '\0')
+                && !loadingOptions.useStrictQuotes()
+                && !loadingOptions.ignoreLeadingWhiteSpace();
+    }
+
+    /**
+     * <p><b>Requires</b>: The options are supported. See {@link #supports(CsvParsingOptions)}. </p>
+     * <p><b>Guarantees</b>: The header line, then every segment of the file, in file order, has been handed to the
+     *                       collector. </p>
+     *
+     * @param file A regular file
+     * @param loadingOptions Supported parsing options
+     * @param parallelOptions The pool on which segments are parsed
+     * @param collector Receives the header line and the parsed segments
+     */
+    static void parse(@NonNull Path file,
+                      @NonNull CsvParsingOptions loadingOptions,
+                      @NonNull ParallelOptions parallelOptions,
+                      @NonNull CsvColumnCollector collector) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            new MappedCsvParser(channel, loadingOptions).parseInto(collector, parallelOptions);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private void parseInto(CsvColumnCollector collector, ParallelOptions parallelOptions) throws IOException {
+        long headerStart = skipPhysicalLines();
+        if (headerStart >= size) {
+            return;
+        }
+        long dataStart = findRecordBoundary(headerStart, false);
+        List<List<String>> headerLine = new ArrayList<>(1);
+        parseRange(headerStart, dataStart, fields -> headerLine.add(List.copyOf(fields)));
+        List<String> headers = headerLine.get(0);
+        collector.accept(headers.toArray(String[]::new));
+
+        long[] nominalStarts = nominalSegmentStarts(dataStart, parallelOptions);
+        int segmentCount = nominalStarts.length - 1;
+        List<Boolean> startsInsideQuotes = prefixXor(parallelOptions.invokeAll(
+                IntStream.range(0, segmentCount)
+                        .mapToObj(segment -> (Callable<Boolean>) () -> hasOddQuoteCount(nominalStarts[segment], nominalStarts[segment + 1]))
+                        .toList()
+        ));
+        List<Long> boundaries = parallelOptions.invokeAll(
+                IntStream.range(0, segmentCount)
+                        .mapToObj(segment -> (Callable<Long>) () -> segment == 0
+                                ? dataStart
+                                : findRecordBoundary(nominalStarts[segment], startsInsideQuotes.get(segment)))
+                        .toList()
+        );
+        List<ColumnBuffer[]> segments = parallelOptions.invokeAll(
+                IntStream.range(0, segmentCount)
+                        .mapToObj(segment -> (Callable<ColumnBuffer[]>) () -> parseSegment(
+                                headers,
+                                boundaries.get(segment),
+                                segment + 1 < segmentCount ? Math.max(boundaries.get(segment), boundaries.get(segment + 1)) : size
+                        ))
+                        .toList()
+        );
+        collector.appendAll(segments);
+    }
+
+    private long[] nominalSegmentStarts(long dataStart, ParallelOptions parallelOptions) {
+        long dataSize = size - dataStart;
+        long segmentBytes = Math.min(
+                MAX_SEGMENT_BYTES,
+                Math.max(Math.max(parallelOptions.sequentialThreshold(), 1), dataSize / ((long) parallelOptions.parallelism() * MORSELS_PER_THREAD))
+        );
+        int segmentCount = (int) Math.max(1, (dataSize + segmentBytes - 1) / segmentBytes);
+        long[] starts = new long[segmentCount + 1];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            starts[segment] = dataStart + segment * segmentBytes;
+        }
+        starts[segmentCount] = size;
+        return starts;
+    }
+
+    private static List<Boolean> prefixXor(List<Boolean> oddQuoteCounts) {
+        List<Boolean> startsInsideQuotes = new ArrayList<>(oddQuoteCounts.size());
+        boolean insideQuotes = false;
+        for (Boolean oddQuoteCount : oddQuoteCounts) {
+            startsInsideQuotes.add(insideQuotes);
+            insideQuotes ^= oddQuoteCount;
+        }
+        return startsInsideQuotes;
+    }
+
+    private boolean hasOddQuoteCount(long start, long end) throws IOException {
+        if (!quotingEnabled) {
+            return false;
+        }
+        boolean odd = false;
+        for (long windowStart = start; windowStart < end; windowStart += SCAN_WINDOW_BYTES) {
+            MappedByteBuffer window = map(windowStart, Math.min(SCAN_WINDOW_BYTES, end - windowStart));
+            for (int idx = 0; idx < window.limit(); idx++) {
+                if (window.get(idx) == quote) {
+                    odd = !odd;
+                }
+            }
+        }
+        return odd;
+    }
+
+    /**
+     * @return The position just past the first line feed at or after the start that is not inside a quoted field, or
+     *         the size of the file if there is none
+     */
+    private long findRecordBoundary(long start, boolean insideQuotes) throws IOException {
+        for (long windowStart = start; windowStart < size; windowStart += SCAN_WINDOW_BYTES) {
+            MappedByteBuffer window = map(windowStart, Math.min(SCAN_WINDOW_BYTES, size - windowStart));
+            for (int idx = 0; idx < window.limit(); idx++) {
+                byte b = window.get(idx);
+                if (quotingEnabled && b == quote) {
+                    insideQuotes = !insideQuotes;
+                } else if (b == LINE_FEED && !insideQuotes) {
+                    return windowStart + idx + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    private long skipPhysicalLines() throws IOException {
+        long position = 0;
+        for (int line = 0; line < skipLines && position < size; line++) {
+            position = findLineEnd(position);
+        }
+        return position;
+    }
+
+    private long findLineEnd(long start) throws IOException {
+        for (long windowStart = start; windowStart < size; windowStart += SCAN_WINDOW_BYTES) {
+            MappedByteBuffer window = map(windowStart, Math.min(SCAN_WINDOW_BYTES, size - windowStart));
+            for (int idx = 0; idx < window.limit(); idx++) {
+                if (window.get(idx) == LINE_FEED) {
+                    return windowStart + idx + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    private ColumnBuffer[] parseSegment(List<String> headers, long start, long end) throws IOException {
+        ColumnBuffer[] buffers = new ColumnBuffer[headers.size()];
+        Arrays.setAll(buffers, idx -> new ColumnBuffer());
+        parseRange(start, end, fields -> {
+            assumeSizesMatch(headers, fields);
+            for (int idx = 0; idx < buffers.length; idx++) {
+                buffers[idx].add(fields.get(idx));
+            }
+        });
+        return buffers;
+    }
+
+    /**
+     * <p><b>Requires</b>: The range starts at a record boundary and ends at a record boundary or at the end of the
+     *                     file. </p>
+     * <p><b>Guarantees</b>: Every record of the range has been handed to the consumer, in order. The list of fields
+     *                       is reused between records. </p>
+     */
+    private void parseRange(long start, long end, Consumer<List<String>> recordConsumer) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IllegalStateException("A single record cannot exceed " + Integer.MAX_VALUE + " bytes.");
+        }
+        MappedByteBuffer buffer = map(start, end - start);
+        int limit = buffer.limit();
+        List<String> fields = new ArrayList<>();
+        byte[] field = new byte[64];
+        int fieldLength = 0;
+        boolean insideQuotes = false;
+        for (int idx = 0; idx < limit; idx++) {
+            byte b = buffer.get(idx);
+            if (insideQuotes) {
+                if (b != quote) {
+                    field = append(field, fieldLength++, b);
+                } else if (idx + 1 < limit && buffer.get(idx + 1) == quote) {
+                    field = append(field, fieldLength++, b);
+                    idx++;
+                } else {
+                    insideQuotes = false;
+                }
+            } else if (quotingEnabled && b == quote) {
+                insideQuotes = true;
+            } else if (b == delimiter) {
+                fields.add(new String(field, 0, fieldLength, charset));
+                fieldLength = 0;
+            } else if (b == LINE_FEED || (b == CARRIAGE_RETURN && idx + 1 < limit && buffer.get(idx + 1) == LINE_FEED)) {
+                fields.add(new String(field, 0, fieldLength, charset));
+                fieldLength = 0;
+                recordConsumer.accept(fields);
+                fields.clear();
+                if (b == CARRIAGE_RETURN) {
+                    idx++;
+                }
+            } else {
+                field = append(field, fieldLength++, b);
+            }
+        }
+        if (insideQuotes) {
+            throw new IllegalArgumentException("Unterminated quoted field at end of CSV file.");
+        }
+        if (fieldLength > 0 || !fields.isEmpty()) {
+            fields.add(new String(field, 0, fieldLength, charset));
+            recordConsumer.accept(fields);
+        }
+    }
+
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    private static byte[] append(byte[] field, int position, byte b) {
+        byte[] target = position < field.length ? field : Arrays.copyOf(field, field.length * 2);
+        target[position] = b;
+        return target;
+    }
+
+    private static boolean isSingleByteSeparator(char c) {
+        return c < 0x80 && c != '\n' && c != '\r';
+    }
+
+}
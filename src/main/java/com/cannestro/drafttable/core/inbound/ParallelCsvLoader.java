@@ -0,0 +1,58 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.supporting.csv.CsvParsingOptions;
+import com.cannestro.drafttable.supporting.csv.options.CustomizableParsingOptions;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.apache.commons.io.FilenameUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> A {@code CsvLoader} for very large files. The file is memory-mapped and split into segments at record
+ * boundaries, taking quoted fields into account, and the segments are parsed in parallel on the pool of the provided
+ * {@code ParallelOptions}. The resulting column chunks are concatenated in file order. For example:
+ * <pre>{@code
+ * DraftTable dt = new ParallelCsvLoader(ParallelOptions.builder().pool(pool).build()).at(Path.of("big.csv"));
+ * }</pre>
+ * </p>
+ *
+ * <p> Files smaller than the sequential threshold, resources that are not regular files, and parsing options outside
+ * of the RFC 4180 dialect (strict quotes, ignoring leading white space, a dedicated escape character or an encoding
+ * that is not ASCII-compatible) are loaded sequentially, exactly as {@code DefaultCsvLoader} would. Without parsing
+ * options, {@code CustomizableParsingOptions.allDefaults()} applies. Loading into a {@code CsvBean} schema is always
+ * sequential. </p>
+ */
+public class ParallelCsvLoader extends DefaultCsvLoader {
+
+    private final ParallelOptions parallelOptions;
+
+
+    public ParallelCsvLoader() {
+        this(ParallelOptions.allDefaults());
+    }
+
+    public ParallelCsvLoader(@NonNull ParallelOptions parallelOptions) {
+        this.parallelOptions = parallelOptions;
+    }
+
+    @Override
+    DraftTable createWithoutSchema(@NonNull String pathToFile, @Nullable CsvParsingOptions loadingOptions) {
+        CsvParsingOptions effectiveOptions = isNull(loadingOptions) ? CustomizableParsingOptions.allDefaults() : loadingOptions;
+        File file = new File(pathToFile);
+        if (!file.isFile()
+                || !parallelOptions.shouldParallelize(file.length())
+                || !MappedCsvParser.supports(effectiveOptions)) {
+            return super.createWithoutSchema(pathToFile, effectiveOptions);
+        }
+        CsvColumnCollector collector = new CsvColumnCollector();
+        MappedCsvParser.parse(file.toPath(), effectiveOptions, parallelOptions, collector);
+        return collector.toDraftTable(FilenameUtils.getName(pathToFile), effectiveOptions.typeInference());
+    }
+
+}
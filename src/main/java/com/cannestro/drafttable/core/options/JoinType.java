@@ -0,0 +1,23 @@
+package com.cannestro.drafttable.core.options;
+
+
+/**
+ * The kinds of join supported between two {@code DraftTable} objects. Rows match when every key value on the left
+ * equals the corresponding key value on the right. Null keys never match.
+ */
+public enum JoinType {
+
+    /** Every pair of matching rows. */
+    INNER,
+    /** Every pair of matching rows, plus the unmatched rows of the left table. */
+    LEFT,
+    /** Every pair of matching rows, plus the unmatched rows of the right table. */
+    RIGHT,
+    /** Every pair of matching rows, plus the unmatched rows of both tables. */
+    FULL,
+    /** The rows of the left table having at least one match, each kept once and with the left columns only. */
+    SEMI,
+    /** The rows of the left table having no match, with the left columns only. */
+    ANTI
+
+}
@@ -0,0 +1,68 @@
+package com.cannestro.drafttable.core.outbound;
+
+import com.cannestro.drafttable.supporting.json.ObjectMapperManager;
+import com.cannestro.drafttable.supporting.options.SupportedExtension;
+import org.jspecify.annotations.NonNull;
+import tools.jackson.core.JacksonException;
+
+import java.io.File;
+import java.util.List;
+
+
+/**
+ * <p> Describes a table exported as several chunk files, in row order, so that the chunks can be loaded back into one
+ * table. Chunk file names are relative to the directory of the manifest. </p>
+ *
+ * @param tableName The name of the exported table
+ * @param extension The format of every chunk
+ * @param columnNames The column names, in table order
+ * @param rowCount The total number of rows across the chunks
+ * @param chunks The chunks, in row order
+ */
+public record ChunkManifest(@NonNull String tableName,
+                            @NonNull SupportedExtension extension,
+                            @NonNull List<String> columnNames,
+                            long rowCount,
+                            @NonNull List<Chunk> chunks) {
+
+    public ChunkManifest {
+        columnNames = List.copyOf(columnNames);
+        chunks = List.copyOf(chunks);
+    }
+
+    /**
+     * @param fileName The name of the chunk file
+     * @param rowCount The number of rows within the chunk
+     * @param byteSize The size of the chunk file, in bytes
+     */
+    public record Chunk(@NonNull String fileName, int rowCount, long byteSize) {}
+
+    /**
+     * @param manifestFile A JSON file written by {@link #writeTo(File)}
+     * @return The manifest held by the file
+     */
+    public static ChunkManifest readFrom(@NonNull File manifestFile) {
+        try {
+            return ObjectMapperManager.getInstance().defaultMapper().readValue(manifestFile, ChunkManifest.class);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Could not read a chunk manifest from: " + manifestFile.getName(), e);
+        }
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The manifest is written to the provided file as JSON, replacing any previous content. </p>
+     *
+     * @param manifestFile The destination file
+     */
+    public void writeTo(@NonNull File manifestFile) {
+        try {
+            ObjectMapperManager.getInstance().defaultMapper()
+                    .writer()
+                    .withDefaultPrettyPrinter()
+                    .writeValue(manifestFile, this);
+        } catch (JacksonException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
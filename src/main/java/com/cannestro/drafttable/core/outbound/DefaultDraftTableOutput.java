@@ -1,19 +1,19 @@
 package com.cannestro.drafttable.core.outbound;
 
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.SelectionVector;
 import com.cannestro.drafttable.supporting.csv.CsvWritingOptions;
 import com.cannestro.drafttable.core.rows.Mappable;
 import com.cannestro.drafttable.core.tables.DraftTable;
-import com.cannestro.drafttable.core.rows.Row;
 import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
 import com.cannestro.drafttable.core.rows.HashMapRow;
 import com.cannestro.drafttable.supporting.csv.assumptions.CsvAssumptions;
 import com.cannestro.drafttable.supporting.json.assumptions.JsonAssumptions;
 import com.cannestro.drafttable.supporting.options.ChunkingOptions;
-import com.cannestro.drafttable.supporting.json.ObjectMapperManager;
+import com.cannestro.drafttable.supporting.json.implementation.JsonDataWriter;
 import com.cannestro.drafttable.supporting.csv.implementation.CsvDataWriter;
 import lombok.AccessLevel;
 import lombok.Getter;
-import org.apache.commons.collections4.ListUtils;
 import org.jspecify.annotations.NonNull;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.StringUtils;
@@ -21,6 +21,8 @@ import tools.jackson.core.JacksonException;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
@@ -28,8 +30,6 @@ import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Collections.nCopies;
 import static java.util.Objects.isNull;
-import static java.util.stream.IntStream.range;
-import static org.hamcrest.Matchers.nullValue;
 
 
 /**
@@ -57,33 +57,24 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
 
     @Override
     public void toCsv(@NonNull File file, @NonNull CsvWritingOptions options) {
-        CsvDataWriter.writeAllLinesToCsv(
+        CsvDataWriter.writeColumnsToCsv(
                 file,
                 draftTable().columnNames(),
-                draftTable().rows().stream()
-                        .map(row -> draftTable().columnNames().stream()
-                                .map(row::valueOf)
-                                .map(String.class::cast)
-                                .toList())
-                        .toList(),
+                columnValues(),
                 options
         );
     }
 
     @Override
-    public void toCsv(@NonNull ChunkingOptions chunkingOptions, @NonNull CsvWritingOptions options) {
+    public ChunkManifest toCsv(@NonNull ChunkingOptions chunkingOptions, @NonNull CsvWritingOptions options) {
         CsvAssumptions.assumeExtensionIsCsvCompatible(chunkingOptions.extension());
-        List<List<Integer>> partitionedIndices = partitionIndicesAccordingTo(chunkingOptions);
-        for (int i = 1; i <= partitionedIndices.size(); i++) {
-            draftTable().where(partitionedIndices.get(i))
-                    .write()
-                    .toCsv(new File(chunkingOptions.constructFilenameForChunk(i)), options);
-        }
+        return writeChunks(chunkingOptions, (chunk, file) -> chunk.write().toCsv(file, options));
     }
 
     /**
      * <p> Produces a JSON String representation of the {@code DraftTable} using the rows as elements of a JSON array.
-     * If the {@code DraftTable} is empty, then an empty JSON array will be returned. Non-empty example: <pre>{@code
+     * Every row object is streamed straight from the column storage, with its fields in column order. If the
+     * {@code DraftTable} is empty, then an empty JSON array will be returned. Non-empty example: <pre>{@code
      * [
      *     {
      *         "Start Lon": "-74.11",
@@ -114,9 +105,7 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
     @Override
     public String toJsonString() {
         try {
-            return ObjectMapperManager.getInstance()
-                    .defaultMapper()
-                    .writeValueAsString(draftTable().rows().stream().map(Row::valueMap).toList());
+            return JsonDataWriter.writeColumnsToJsonString(draftTable().columnNames(), columnValues());
         } catch (JacksonException e) {
             throw new IllegalArgumentException(e);
         }
@@ -126,23 +115,62 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
     public void toJson(@NonNull File outputFile) {
         JsonAssumptions.assumeFilenameIsJsonCompatible(outputFile.getAbsolutePath());
         try {
-            ObjectMapperManager.getInstance()
-                    .defaultMapper()
-                    .writeValue(outputFile, draftTable().rows().stream().map(Row::valueMap).toList());
+            JsonDataWriter.writeColumnsToJson(outputFile, draftTable().columnNames(), columnValues());
+        } catch (JacksonException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void toJsonLines(@NonNull File outputFile) {
+        JsonAssumptions.assumeFilenameIsJsonLinesCompatible(outputFile.getAbsolutePath());
+        try {
+            JsonDataWriter.writeColumnsToJsonLines(outputFile, draftTable().columnNames(), columnValues());
         } catch (JacksonException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    private List<List<?>> columnValues() {
+        return draftTable().columns().stream().<List<?>>map(Column::values).toList();
+    }
+
     @Override
-    public void toJson(@NonNull ChunkingOptions chunkingOptions) {
+    public ChunkManifest toJson(@NonNull ChunkingOptions chunkingOptions) {
         JsonAssumptions.assumeExtensionIsJsonCompatible(chunkingOptions.extension());
-        List<List<Integer>> partitionedIndices = partitionIndicesAccordingTo(chunkingOptions);
-        for (int i = 0; i < partitionedIndices.size(); i++) {
-            draftTable().where(partitionedIndices.get(i))
-                    .write()
-                    .toJson(new File(chunkingOptions.constructFilenameForChunk(i)));
+        return writeChunks(chunkingOptions, (chunk, file) -> chunk.write().toJson(file));
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every chunk is a view of a range of consecutive rows, with no copy of the values, and is
+     *                       written on the pool of the chunking options. The manifest is written once every chunk has
+     *                       been. </p>
+     */
+    private ChunkManifest writeChunks(ChunkingOptions chunkingOptions, BiConsumer<DraftTable, File> chunkWriter) {
+        List<Column> columns = draftTable().columns();
+        int[] bounds = chunkBoundsAccordingTo(chunkingOptions);
+        List<Callable<ChunkManifest.Chunk>> tasks = new ArrayList<>(bounds.length);
+        for (int chunkId = 0; chunkId < bounds.length - 1; chunkId++) {
+            File file = new File(chunkingOptions.constructFilenameForChunk(chunkId));
+            SelectionVector rows = SelectionVector.range(bounds[chunkId], bounds[chunkId + 1]);
+            tasks.add(() -> {
+                DraftTable chunk = FlexibleDraftTable.create().fromColumns(
+                        draftTable().tableName(),
+                        columns.stream().map(column -> column.where(rows)).toList()
+                );
+                chunkWriter.accept(chunk, file);
+                return new ChunkManifest.Chunk(file.getName(), rows.size(), file.length());
+            });
         }
+        ChunkManifest manifest = new ChunkManifest(
+                draftTable().tableName(),
+                chunkingOptions.extension(),
+                draftTable().columnNames(),
+                draftTable().rowCount(),
+                chunkingOptions.parallelOptions().invokeAll(tasks)
+        );
+        manifest.writeTo(new File(chunkingOptions.constructFilenameForManifest()));
+        return manifest;
     }
 
     /**
@@ -156,7 +184,7 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
                           draftTable().columns().stream()
                                   .map(column -> new Structure(column.label(),
                                                                column.dataType().getTypeName(),
-                                                               column.where(nullValue()).size()))
+                                                               column.nullCount()))
                                   .sorted(Comparator.comparing(Structure::columnName))
                                   .map(Mappable.class::cast)
                                   .map(HashMapRow::from)
@@ -248,23 +276,22 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
     }
 
     List<String> formattedRowContentAccordingTo(Map<String, Integer> lengthLimitsPerColumn, DraftTable draftTable) {
-        return draftTable.rows().stream()
-                .map(Row::valueMap)
-                .map(valueMap -> lengthLimitsPerColumn.keySet().stream().toList().stream()
-                        .map(Object::toString)
+        List<String> columnNames = lengthLimitsPerColumn.keySet().stream().toList();
+        List<String> formattedRows = new ArrayList<>(draftTable.rowCount());
+        draftTable.forEachRow(row -> formattedRows.add(format(
+                PRETTY_FORMAT_STRING,
+                columnNames.stream()
                         .map(columnName -> {
                             int lengthLimit = lengthLimitsPerColumn.get(columnName);
-                            if (isNull(valueMap.get(columnName))) {
+                            Object value = row.valueOf(columnName);
+                            if (isNull(value)) {
                                 return StringUtils.leftPad(NULL_STRING, lengthLimit);
                             }
-                            return StringUtils.leftPad(
-                                    truncateIfNecessary(valueMap.get(columnName).toString(), lengthLimit),
-                                    lengthLimit
-                            );
+                            return StringUtils.leftPad(truncateIfNecessary(value.toString(), lengthLimit), lengthLimit);
                         })
-                        .toList())
-                .map(valueList -> format(PRETTY_FORMAT_STRING, join(PRETTY_DELIMITER, valueList)))
-                .toList();
+                        .collect(Collectors.joining(PRETTY_DELIMITER))
+        )));
+        return formattedRows;
     }
 
     String truncateIfNecessary(String string, int lengthLimit){
@@ -283,11 +310,20 @@ public class DefaultDraftTableOutput implements DraftTableOutput {
     }
 
 
-    List<List<Integer>> partitionIndicesAccordingTo(@NonNull ChunkingOptions chunkingOptions) {
-        int partitionSize = isNull(chunkingOptions.limitPerChunk())
-                ? Math.max(1, draftTable().rowCount() / chunkingOptions.targetMinimumChunks())
+    /**
+     * @return The bounds of the chunks, where chunk {@code i} spans the rows within [bounds[i], bounds[i + 1])
+     */
+    int[] chunkBoundsAccordingTo(@NonNull ChunkingOptions chunkingOptions) {
+        int rowCount = draftTable().rowCount();
+        int chunkSize = isNull(chunkingOptions.limitPerChunk())
+                ? Math.max(1, rowCount / chunkingOptions.targetMinimumChunks())
                 : chunkingOptions.limitPerChunk();
-        return ListUtils.partition(range(0, draftTable().rowCount()).boxed().toList(), partitionSize);
+        int chunkCount = (int) (((long) rowCount + chunkSize - 1) / chunkSize);
+        int[] bounds = new int[chunkCount + 1];
+        for (int chunkId = 0; chunkId <= chunkCount; chunkId++) {
+            bounds[chunkId] = (int) Math.min((long) chunkId * chunkSize, rowCount);
+        }
+        return bounds;
     }
 
 }
@@ -13,13 +13,38 @@ public interface DraftTableOutput {
 
     void toCsv(@NonNull File file, @NonNull CsvWritingOptions options);
 
-    void toCsv(@NonNull ChunkingOptions chunkingOptions, @NonNull CsvWritingOptions options);
+    /**
+     * <p><b>Guarantees</b>: The rows are split into chunks of consecutive rows, which are written concurrently to their
+     *                       own CSV files, along with a manifest of the chunks. See {@link ChunkManifest}. If any
+     *                       chunk cannot be written, the export fails and no manifest is written. </p>
+     *
+     * @param chunkingOptions The chunk sizes, destination and parallelism
+     * @param options Any customized CSV export options
+     * @return The manifest, as written next to the chunks
+     */
+    ChunkManifest toCsv(@NonNull ChunkingOptions chunkingOptions, @NonNull CsvWritingOptions options);
 
     String toJsonString();
 
     void toJson(@NonNull File outputFile);
 
-    void toJson(@NonNull ChunkingOptions chunkingOptions);
+    /**
+     * <p><b>Requires</b>: The file name ends with a JSON Lines extension, i.e. {@code .jsonl} or {@code .ndjson}. </p>
+     * <p><b>Guarantees</b>: The rows are streamed to the file as one JSON object per line, in row order. </p>
+     *
+     * @param outputFile The destination file
+     */
+    void toJsonLines(@NonNull File outputFile);
+
+    /**
+     * <p><b>Guarantees</b>: The rows are split into chunks of consecutive rows, which are written concurrently to their
+     *                       own JSON files, along with a manifest of the chunks. See {@link ChunkManifest}. If any
+     *                       chunk cannot be written, the export fails and no manifest is written. </p>
+     *
+     * @param chunkingOptions The chunk sizes, destination and parallelism
+     * @return The manifest, as written next to the chunks
+     */
+    ChunkManifest toJson(@NonNull ChunkingOptions chunkingOptions);
 
     Iterator<String> structure();
 
@@ -55,8 +80,8 @@ public interface DraftTableOutput {
         toCsv(file, CustomizableWritingOptions.allDefaults());
     }
 
-    default void toCsv(@NonNull ChunkingOptions chunkingOptions) {
-        toCsv(chunkingOptions, CustomizableWritingOptions.allDefaults());
+    default ChunkManifest toCsv(@NonNull ChunkingOptions chunkingOptions) {
+        return toCsv(chunkingOptions, CustomizableWritingOptions.allDefaults());
     }
 
 }
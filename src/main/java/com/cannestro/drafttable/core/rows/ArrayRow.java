@@ -0,0 +1,166 @@
+package com.cannestro.drafttable.core.rows;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> A compact {@code Row} holding its values in an array, by position, and pointing to a {@code RowSchema} that is
+ * shared with every other row of its table. Compared to a {@code HashMapRow}, no map entry, key reference or hash table
+ * is allocated per row. </p>
+ *
+ * <p> Rows are equal when their value maps are, regardless of their implementation. </p>
+ */
+public final class ArrayRow implements Row {
+
+    private final RowSchema schema;
+    private final Object[] values;
+
+
+    /**
+     * <p><b>Requires</b>: There are as many values as there are names within the schema. The array is owned by the new
+     *                     row and must not be modified afterward. </p>
+     *
+     * @param schema The shared schema
+     * @param values The values, in schema order
+     */
+    public ArrayRow(@NonNull RowSchema schema, @NonNull Object[] values) {
+        if (isNull(schema) || isNull(values)) {
+            throw new IllegalArgumentException("Cannot create a null row");
+        }
+        if (schema.size() != values.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Assumption broken - The schema has %s columns, but %s values were provided.",
+                    schema.size(),
+                    values.length
+            ));
+        }
+        this.schema = schema;
+        this.values = values;
+    }
+
+    public static ArrayRow from(@NonNull RowSchema schema, @NonNull List<?> values) {
+        return new ArrayRow(schema, values.toArray());
+    }
+
+    /**
+     * <p><b>Requires</b>: The map's keys are exactly the names within the schema. </p>
+     *
+     * @param schema The shared schema
+     * @param map The values, by name
+     * @return A new {@code ArrayRow}
+     */
+    public static ArrayRow from(@NonNull RowSchema schema, @NonNull Map<String, ?> map) {
+        if (map.size() != schema.size() || !map.keySet().containsAll(schema.names())) {
+            throw new IllegalArgumentException(String.format(
+                    "Assumption broken - The provided keys %s do not match the schema %s.",
+                    map.keySet(),
+                    schema.names()
+            ));
+        }
+        Object[] values = new Object[schema.size()];
+        for (int idx = 0; idx < values.length; idx++) {
+            values[idx] = map.get(schema.names().get(idx));
+        }
+        return new ArrayRow(schema, values);
+    }
+
+    public RowSchema schema() {
+        return schema;
+    }
+
+    /**
+     * @param columnIndex A position within [0, size)
+     * @return The value at the provided position
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T valueAt(int columnIndex) {
+        return (T) values[columnIndex];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean hasKey(@NonNull String columnName) {
+        return schema.positionOf(columnName) != RowSchema.ABSENT;
+    }
+
+    @Override
+    public <T> T valueOf(@NonNull String columnName) {
+        int position = schema.positionOf(columnName);
+        return position == RowSchema.ABSENT ? null : valueAt(position);
+    }
+
+    @Override
+    public List<String> keys() {
+        return schema.names();
+    }
+
+    /**
+     * @return A new map of the values, by name, in schema order
+     */
+    @Override
+    public Map<String, ?> valueMap() {
+        Map<String, Object> map = new LinkedHashMap<>(2 * values.length);
+        for (int idx = 0; idx < values.length; idx++) {
+            map.put(schema.names().get(idx), values[idx]);
+        }
+        return map;
+    }
+
+    @Override
+    public Row deepCopy() {
+        return from(schema, new HashMapRow(valueMap()).deepCopy().valueMap());
+    }
+
+    @Override
+    public <T> T as(@NonNull Class<T> target) {
+        return new HashMapRow(valueMap()).as(target);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ArrayRow row && row.schema.equals(schema)) {
+            return Arrays.equals(values, row.values);
+        }
+        return other instanceof Row row && valueMap().equals(row.valueMap());
+    }
+
+    /**
+     * @return The hash code of the value map, computed without building it
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int idx = 0; idx < values.length; idx++) {
+            hashCode += schema.names().get(idx).hashCode() ^ Objects.hashCode(values[idx]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE).append("map", valueMap()).toString();
+    }
+
+}
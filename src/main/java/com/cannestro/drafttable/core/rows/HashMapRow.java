@@ -95,6 +95,16 @@ public record HashMapRow(Map<String, ?> map) implements Row {
         }
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Row row && map().equals(row.valueMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return map().hashCode();
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.JSON_STYLE);
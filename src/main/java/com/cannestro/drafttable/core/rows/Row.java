@@ -7,6 +7,9 @@ import java.util.Map;
 
 
 /**
+ * <p> Implementations are expected to be equal whenever their value maps are, so that rows of different
+ * implementations can be compared with each other. </p>
+ *
  * @author Victor Cannestro
  */
 public interface Row {
@@ -0,0 +1,196 @@
+package com.cannestro.drafttable.core.rows;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.supporting.utils.MapUtils;
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * <p> A reusable, movable view of one row of a set of columns. The cursor reads every value straight from the columns
+ * at its current position, so that visiting all the rows of a table allocates no {@code Row} per row, although values of
+ * primitive columns are still boxed as they are read. For example:
+ * <pre>{@code
+ * RowCursor cursor = RowCursor.over(dt.columns());
+ * while (cursor.next()) {
+ *     String state = cursor.valueAt(0);
+ *     ...
+ * }
+ * }</pre>
+ * </p>
+ *
+ * <p> Since the cursor is moved rather than copied, it must not be retained beyond the visit of its current row, and
+ * should not be shared across threads. Use {@code snapshot()} to keep a row. Like any {@code Row}, a cursor equals the
+ * rows whose value maps equal that of its current row, so its equality and hash code change as it moves. </p>
+ */
+public final class RowCursor implements Row {
+
+    private final RowSchema schema;
+    private final List<List<?>> columnValues;
+    private final int rowCount;
+    private int position = -1;
+
+
+    private RowCursor(RowSchema schema, List<List<?>> columnValues, int rowCount) {
+        this.schema = schema;
+        this.columnValues = columnValues;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * <p><b>Requires</b>: The columns all have the same size. </p>
+     * <p><b>Guarantees</b>: A cursor over the rows of the provided columns, positioned before the first row. </p>
+     *
+     * @param columns A list of columns
+     * @return A new {@code RowCursor}
+     */
+    public static RowCursor over(@NonNull List<Column> columns) {
+        List<String> keys = new ArrayList<>(columns.size());
+        List<List<?>> columnValues = new ArrayList<>(columns.size());
+        columns.forEach(column -> {
+            keys.add(column.label());
+            columnValues.add(column.values());
+        });
+        return new RowCursor(RowSchema.of(keys), columnValues, columns.isEmpty() ? 0 : columns.get(0).size());
+    }
+
+    /**
+     * @return The number of rows the cursor can visit
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return The current row's index, or -1 if the cursor has not been moved yet
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * <p><b>Requires</b>: The index lies within [0, rowCount). </p>
+     * <p><b>Guarantees</b>: The cursor now exposes the values of the row at the provided index. </p>
+     *
+     * @param rowIndex A row index
+     * @return This {@code RowCursor}
+     */
+    public RowCursor moveTo(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException(String.format("Row index %d is out of range for %d rows", rowIndex, rowCount));
+        }
+        this.position = rowIndex;
+        return this;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Advances the cursor to the next row, if there is one. </p>
+     *
+     * @return True if and only if the cursor now exposes a row
+     */
+    public boolean next() {
+        if (position + 1 >= rowCount) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    /**
+     * @param columnIndex A column index within [0, size)
+     * @return The value of the current row within the column at the provided index
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T valueAt(int columnIndex) {
+        return (T) columnValues.get(columnIndex).get(position);
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A detached copy of the current row, which is unaffected by later moves of the cursor. Every
+     *                       snapshot taken from the same cursor shares its {@code RowSchema}. </p>
+     *
+     * @return A new {@code ArrayRow}
+     */
+    public ArrayRow snapshot() {
+        Object[] values = new Object[columnValues.size()];
+        for (int idx = 0; idx < values.length; idx++) {
+            values[idx] = columnValues.get(idx).get(position);
+        }
+        return new ArrayRow(schema, values);
+    }
+
+    @Override
+    public int size() {
+        return schema.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean hasKey(@NonNull String columnName) {
+        return schema.positionOf(columnName) != RowSchema.ABSENT;
+    }
+
+    @Override
+    public <T> T valueOf(@NonNull String columnName) {
+        int columnIndex = schema.positionOf(columnName);
+        return columnIndex == RowSchema.ABSENT ? null : valueAt(columnIndex);
+    }
+
+    @Override
+    public List<String> keys() {
+        return schema.names();
+    }
+
+    /**
+     * @return A new map of the current row's values, by column name
+     */
+    @Override
+    public Map<String, ?> valueMap() {
+        List<Object> values = new ArrayList<>(size());
+        for (int idx = 0; idx < size(); idx++) {
+            values.add(valueAt(idx));
+        }
+        return MapUtils.zip(schema.names(), values);
+    }
+
+    @Override
+    public Row deepCopy() {
+        return snapshot().deepCopy();
+    }
+
+    @Override
+    public <T> T as(@NonNull Class<T> target) {
+        return snapshot().as(target);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Row row && valueMap().equals(row.valueMap());
+    }
+
+    /**
+     * @return The hash code of the current row's value map, computed without building it
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int idx = 0; idx < size(); idx++) {
+            hashCode += schema.names().get(idx).hashCode() ^ Objects.hashCode(valueAt(idx));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RowCursor{position=%d, rowCount=%d}", position, rowCount);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.cannestro.drafttable.core.rows;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniquenessOf;
+
+
+/**
+ * <p> The ordered column names shared by many rows, with the position of every name. A single schema is built per
+ * table or batch of rows, so that each row only has to hold its values. </p>
+ *
+ * @param names The distinct column names, in order
+ * @param positions The position of every name within the names
+ */
+public record RowSchema(@NonNull List<String> names, @NonNull Map<String, Integer> positions) {
+
+    public static final int ABSENT = -1;
+
+
+    public RowSchema {
+        names = List.copyOf(names);
+        positions = Map.copyOf(positions);
+    }
+
+    /**
+     * <p><b>Requires</b>: The names are distinct. </p>
+     *
+     * @param names The column names, in order
+     * @return A new {@code RowSchema}
+     */
+    public static RowSchema of(@NonNull Collection<String> names) {
+        List<String> orderedNames = List.copyOf(names);
+        assumeUniquenessOf(orderedNames);
+        Map<String, Integer> positions = new HashMap<>(2 * orderedNames.size());
+        for (int idx = 0; idx < orderedNames.size(); idx++) {
+            positions.put(orderedNames.get(idx), idx);
+        }
+        return new RowSchema(orderedNames, positions);
+    }
+
+    /**
+     * @return The number of columns
+     */
+    public int size() {
+        return names().size();
+    }
+
+    /**
+     * @param name A column name
+     * @return The position of the name, or {@code ABSENT} if the schema does not contain it
+     */
+    public int positionOf(@NonNull String name) {
+        return positions().getOrDefault(name, ABSENT);
+    }
+
+}
@@ -1,12 +1,16 @@
 package com.cannestro.drafttable.core.tables;
 
+import com.cannestro.drafttable.core.aggregations.TableGrouping;
 import com.cannestro.drafttable.core.columns.Column;
 import com.cannestro.drafttable.core.columns.ColumnSplitter;
 import com.cannestro.drafttable.core.outbound.DraftTableOutput;
 import com.cannestro.drafttable.core.rows.Row;
+import com.cannestro.drafttable.core.rows.RowCursor;
 import com.cannestro.drafttable.core.options.Item;
 import com.cannestro.drafttable.core.options.Items;
+import com.cannestro.drafttable.core.options.JoinType;
 import com.cannestro.drafttable.core.options.SortingOrderType;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 
 import org.hamcrest.Matcher;
 import org.jspecify.annotations.Nullable;
@@ -83,6 +87,30 @@ public interface DraftTable {
      */
     List<Row> rows();
 
+    /**
+     * <p><b>Guarantees</b>: A reusable cursor over the rows of the {@code DraftTable}, positioned before the first row.
+     *                       Values are read straight from the columns, so that no {@code Row} is allocated per row. </p>
+     *
+     * @return A new {@code RowCursor}
+     */
+    default RowCursor cursor() {
+        return RowCursor.over(columns());
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Visits every row in order through a single {@code RowCursor}, which is moved from row to
+     *                       row. The cursor must not be retained by the action; use {@code RowCursor.snapshot()} to
+     *                       keep a row. </p>
+     *
+     * @param action The action to perform on each row
+     */
+    default void forEachRow(@NonNull Consumer<? super RowCursor> action) {
+        RowCursor cursor = cursor();
+        while (cursor.next()) {
+            action.accept(cursor);
+        }
+    }
+
     /**
      * Converts the current state of the {@code DraftTable} into a collection of {@code Column} objects--order is
      * preserved.
@@ -268,7 +296,8 @@ public interface DraftTable {
 
     /**
      * Orders the data in ascending or descending order as specified. Null values will appear first, followed by any
-     * sorted non-null values in <b>natural order</b>. Ties are broken by the next specified column's values.
+     * sorted non-null values in <b>natural order</b>. Descending order reverses the entire ordering. Rows with equal
+     * values keep their relative order.
      *
      * @param columnName A string label
      * @param sortingOrderType Specifying ascending or descending order
@@ -278,7 +307,8 @@ public interface DraftTable {
 
     /**
      * Orders the data in ascending or descending order as specified. Null values will appear first, followed by any
-     * sorted non-null values in <b>natural order</b>. Ties are broken by the next specified  column's values.
+     * sorted non-null values in <b>natural order</b>. Ties are broken by the next specified column's values, and rows
+     * tied on every column keep their relative order. Descending order reverses the entire ordering.
      *
      * @param columnNames A list of string labels
      * @param sortingOrderType Specifying ascending or descending order
@@ -286,6 +316,50 @@ public interface DraftTable {
      */
     DraftTable orderBy(@NonNull Items<String> columnNames, @NonNull SortingOrderType sortingOrderType);
 
+    /**
+     * Orders the data exactly as {@link #orderBy(Items, SortingOrderType)} does, sorting in parallel on the pool of the
+     * provided options once the row count reaches their sequential threshold.
+     *
+     * @param columnNames A list of string labels
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code DraftTable}
+     */
+    DraftTable orderBy(@NonNull Items<String> columnNames,
+                       @NonNull SortingOrderType sortingOrderType,
+                       @NonNull ParallelOptions parallelOptions);
+
+    /**
+     * Produces the first {@code nRows} rows of {@link #orderBy(Items, SortingOrderType)}, or every row if there are
+     * fewer, without sorting the whole {@code DraftTable}. A bounded heap keeps the best candidates, at a cost of
+     * O(n log nRows). For example:
+     * <pre>{@code
+     * DraftTable deadliest = tornadoes.topBy(Items.of("Fatalities"), DESCENDING, 20);
+     * }</pre>
+     *
+     * @param columnNames A list of string labels
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param nRows A non-negative integer
+     * @return A new {@code DraftTable} subset
+     */
+    DraftTable topBy(@NonNull Items<String> columnNames, @NonNull SortingOrderType sortingOrderType, int nRows);
+
+    /**
+     * Produces the same rows as {@link #topBy(Items, SortingOrderType, int)}. Once the row count reaches the sequential
+     * threshold of the provided options, every morsel of rows selects its own candidates in parallel, and the final
+     * selection is made among those.
+     *
+     * @param columnNames A list of string labels
+     * @param sortingOrderType Specifying ascending or descending order
+     * @param nRows A non-negative integer
+     * @param parallelOptions The pool, parallelism and sequential threshold to use
+     * @return A new {@code DraftTable} subset
+     */
+    DraftTable topBy(@NonNull Items<String> columnNames,
+                     @NonNull SortingOrderType sortingOrderType,
+                     int nRows,
+                     @NonNull ParallelOptions parallelOptions);
+
     /**
      * <p><b>Requires</b>: This method assumes that the provided {@code DraftTable} is non-null and its columns exactly
      *                     match those of the appended {@code DraftTable}. Appending an empty {@code DraftTable} is
@@ -320,6 +394,32 @@ public interface DraftTable {
      */
     DraftTable append(@NonNull Row row);
 
+    /**
+     * <p><b>Requires</b>: At least one pair of key columns is provided, each existing in its respective table and the
+     *                     two columns of each pair being of the same type. The non-key column names of the other
+     *                     {@code DraftTable} must not clash with the column names of this one. </p>
+     * <br>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} holding the columns of this {@code DraftTable} followed by the
+     *                       non-key columns of the other, or only the columns of this {@code DraftTable} for semi and
+     *                       anti joins. Rows match when all of their key values are equal, and null keys never match.
+     *                       Rows follow the order of this {@code DraftTable}, and unmatched rows of the other
+     *                       {@code DraftTable} come last. For example:
+     * <pre>{@code
+     * DraftTable ordersWithCustomers = orders.join(customers, Items.of("customerId"), Items.of("id"), JoinType.LEFT);
+     * }</pre>
+     * </p>
+     *
+     * @param otherDraftTable The right-hand side of the join
+     * @param leftKeys The key column names of this {@code DraftTable}
+     * @param rightKeys The key column names of the other {@code DraftTable}, in corresponding order
+     * @param joinType The kind of join to perform
+     * @return A new {@code DraftTable}
+     */
+    DraftTable join(@NonNull DraftTable otherDraftTable,
+                    @NonNull Items<String> leftKeys,
+                    @NonNull Items<String> rightKeys,
+                    @NonNull JoinType joinType);
+
     /**
      * Horizontally appends the new column to the {@code DraftTable}. If the current {@code DraftTable} is completely
      * empty, then the new column will be wrapped into a new {@code DraftTable}.
@@ -470,6 +570,18 @@ public interface DraftTable {
      */
     ColumnSplitter split(@NonNull String columnName);
 
+    /**
+     * Groups the rows of the {@code DraftTable} by the distinct combinations of values of the key columns, in
+     * preparation for aggregating each group. For example:
+     * <pre>{@code
+     * DraftTable summary = tornadoes.groupBy(Items.of("State", "Year")).agg(Aggregation.count(), Aggregation.sum("Fatalities"));
+     * }</pre>
+     *
+     * @param keys One or more existing column names
+     * @return A {@code TableGrouping} to aggregate the groups with
+     */
+    TableGrouping groupBy(@NonNull Items<String> keys);
+
     /**
      * Removes the pipeline from further processing by switching control to a {@code DraftTableOutput}. From here,
      * users may export the contents of the {@code DraftTable} to a supported format (CSV, JSON, etc.), pretty print,
@@ -511,10 +623,27 @@ public interface DraftTable {
         return select(columns.paramsArray());
     }
 
+    default TableGrouping groupBy(@NonNull String... keys) {
+        return groupBy(Items.of(keys));
+    }
+
     default DraftTable drop(@NonNull Items<String> columnsToDrop) {
         return drop(columnsToDrop.paramsArray());
     }
 
+    /**
+     * Joins this {@code DraftTable} with another on key columns that share the same names in both. See
+     * {@link #join(DraftTable, Items, Items, JoinType)}.
+     *
+     * @param otherDraftTable The right-hand side of the join
+     * @param keys The key column names, present in both tables
+     * @param joinType The kind of join to perform
+     * @return A new {@code DraftTable}
+     */
+    default DraftTable join(@NonNull DraftTable otherDraftTable, @NonNull Items<String> keys, @NonNull JoinType joinType) {
+        return join(otherDraftTable, keys, keys, joinType);
+    }
+
     /**
      * Retains the specified columns from the {@code DraftTable}. Will produce an empty {@code DraftTable} if no
      * columns are left.
@@ -589,6 +718,16 @@ public interface DraftTable {
         ).drop(firstColumnName, secondColumnName);
     }
 
+    /**
+     * Defers subsequent {@code where}, {@code select}, {@code drop} and {@code top} operations so that they can be
+     * evaluated together in a single pass over this {@code DraftTable}. See {@link LazyDraftTable}.
+     *
+     * @return A new {@code LazyDraftTable} whose source is this {@code DraftTable}
+     */
+    default LazyDraftTable lazy() {
+        return new FlexibleLazyDraftTable(this);
+    }
+
     default <T extends DraftTableOutput> T write(@NonNull Class<T> outputClass) {
         try {
             return outputClass.getDeclaredConstructor(DraftTable.class).newInstance(this);
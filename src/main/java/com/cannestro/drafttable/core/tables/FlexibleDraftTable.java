@@ -1,19 +1,22 @@
 package com.cannestro.drafttable.core.tables;
 
+import com.cannestro.drafttable.core.aggregations.TableGrouping;
 import com.cannestro.drafttable.core.columns.ColumnSplitter;
 import com.cannestro.drafttable.core.columns.EmbeddedColumnSplitter;
 import com.cannestro.drafttable.core.columns.FlexibleColumn;
 import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.SelectionVector;
 import com.cannestro.drafttable.core.outbound.DraftTableOutput;
 import com.cannestro.drafttable.core.rows.Row;
-import com.cannestro.drafttable.core.rows.HashMapRow;
+import com.cannestro.drafttable.core.rows.RowCursor;
 import com.cannestro.drafttable.core.options.Item;
 import com.cannestro.drafttable.core.options.Items;
+import com.cannestro.drafttable.core.options.JoinType;
 import com.cannestro.drafttable.core.options.SortingOrderType;
 
 import com.cannestro.drafttable.core.outbound.DefaultDraftTableOutput;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 import com.cannestro.drafttable.supporting.utils.ListUtils;
-import com.cannestro.drafttable.supporting.utils.MapUtils;
 import com.cannestro.drafttable.supporting.utils.DraftTableUtils;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -33,6 +36,7 @@ import java.util.stream.IntStream;
 
 import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.*;
 import static com.cannestro.drafttable.supporting.utils.ListUtils.*;
+import static java.util.Objects.isNull;
 import static org.hamcrest.Matchers.*;
 
 
@@ -45,11 +49,15 @@ public class FlexibleDraftTable implements DraftTable {
 
     @Getter(AccessLevel.PRIVATE) private final List<Column> listOfColumns;
     @Getter private String tableName;
+    private transient volatile Map<String, Integer> positionOfLabel;
+
+    private static final int ABSENT = -1;
 
 
     FlexibleDraftTable(String tableName, List<Column> listOfColumns) {
         this.tableName = tableName;
         this.listOfColumns = listOfColumns;
+        this.positionOfLabel = indexColumnPositions();
     }
 
     public static TableCreator create() {
@@ -87,22 +95,32 @@ public class FlexibleDraftTable implements DraftTable {
 
     @Override
     public DraftTable rename(@NonNull Items<String> targetColumnNames, @NonNull Items<String> newColumnNames) {
-        return create().fromColumns(
-                tableName(),
-                columns().stream()
-                        .map(column -> {
-                            if (targetColumnNames.params().contains(column.label())) {
-                                return column.renameAs(newColumnNames.params().get(targetColumnNames.params().indexOf(column.label())));
-                            }
-                            return column;
-                        })
-                        .toList()
-        );
+        String[] newLabels = new String[columnCount()];
+        for (int idx = targetColumnNames.params().size() - 1; idx >= 0; idx--) {
+            int position = positionOf(targetColumnNames.params().get(idx));
+            if (position != ABSENT) {
+                newLabels[position] = newColumnNames.params().get(idx);
+            }
+        }
+        List<Column> renamedColumns = columns();
+        boolean relabelledInPlace = false;
+        for (int position = 0; position < newLabels.length; position++) {
+            if (!isNull(newLabels[position])) {
+                Column column = renamedColumns.get(position);
+                Column renamed = column.renameAs(newLabels[position]);
+                relabelledInPlace |= renamed == column;
+                renamedColumns.set(position, renamed);
+            }
+        }
+        if (relabelledInPlace) {
+            positionOfLabel = indexColumnPositions();
+        }
+        return create().fromColumns(tableName(), renamedColumns);
     }
 
     @Override
     public boolean hasColumn(@NonNull String name) {
-        return listOfColumns().stream().anyMatch(column -> column.label().equals(name));
+        return positionOf(name) != ABSENT;
     }
 
     @Override
@@ -112,41 +130,33 @@ public class FlexibleDraftTable implements DraftTable {
 
     @Override
     public List<Row> rows() {
-        return IntStream.range(0, rowCount())
-                 .mapToObj(rowIndex -> MapUtils.zip(
-                             columns().stream().map(Column::label).toList(),
-                             columns().stream().map(column -> column.values().get(rowIndex)).toList()
-                 ))
-                .map(HashMapRow::new)
-                .map(Row.class::cast)
-                .toList();
+        List<Row> rows = new ArrayList<>(rowCount());
+        forEachRow(row -> rows.add(row.snapshot()));
+        return rows;
+    }
+
+    @Override
+    public RowCursor cursor() {
+        return RowCursor.over(listOfColumns());
     }
 
     @Override
     public DraftTable copy() {
-        return create().fromRows(
-                tableName(),
-                rows().stream().map(Row::deepCopy).toList()
-        );
+        List<Row> copiedRows = new ArrayList<>(rowCount());
+        forEachRow(row -> copiedRows.add(row.deepCopy()));
+        return create().fromRows(tableName(), copiedRows);
     }
 
     @Override
     public Column select(@NonNull String columnName) {
         assumeColumnExists(columnName, this);
-        return listOfColumns().get(
-                columnNames().indexOf(columnName)
-        );
+        return listOfColumns().get(positionOf(columnName));
     }
 
     @Override
     public DraftTable select(@NonNull String... columnNames) {
         Arrays.stream(columnNames).forEach(columnName -> assumeColumnExists(columnName, this));
-        return new FlexibleDraftTable(
-                tableName(),
-                listOfColumns().stream()
-                        .filter(column -> in(columnNames).matches(column.label()))
-                        .toList()
-        );
+        return new FlexibleDraftTable(tableName(), columnsAt(positionsOf(columnNames), true));
     }
 
     @Override
@@ -183,37 +193,41 @@ public class FlexibleDraftTable implements DraftTable {
     @Override
     public DraftTable where(@NonNull List<Integer> indices) {
         assumeIndicesBoundedByRowCount(indices, this);
-        return create().fromColumns(
-                tableName(),
-                columns().stream().map(column -> column.where(indices)).toList()
-        );
+        return where(SelectionVector.from(indices));
     }
 
     @Override
     public DraftTable where(@NonNull String columnName, @NonNull Matcher<?> matcher) {
         assumeColumnExists(columnName, this);
-        List<?> columnValues = select(columnName).values();
-        List<Integer> matchingIndices = DraftTableUtils.findMatchingIndices(rowCount(), columnValues::get, matcher);
-        return create().fromColumns(
-                tableName(),
-                columns().stream().map(column -> column.where(matchingIndices)).toList()
-        );
+        return where(select(columnName).positionsWhere(matcher));
     }
 
     @Override
     public <T, R> DraftTable where(@NonNull String columnName, @NonNull Function<T, R> columnAspect, @NonNull Matcher<R> matcher) {
         assumeColumnExists(columnName, this);
-        List<T> columnValues = select(columnName).values();
-        return where(
-                DraftTableUtils.findMatchingIndices(rowCount(), idx -> columnAspect.apply(columnValues.get(idx)), matcher)
-        );
+        return where(select(columnName).positionsWhere(columnAspect, matcher));
     }
 
     @Override
     public <R> DraftTable where(@NonNull Function<Row, R> rowAspect, @NonNull Matcher<R> matcher) {
-        List<Row> row = rows();
-        return where(
-                DraftTableUtils.findMatchingIndices(rowCount(), idx -> rowAspect.apply(row.get(idx)), matcher)
+        RowCursor row = cursor();
+        return where(SelectionVector.matching(rowCount(), idx -> matcher.matches(rowAspect.apply(row.moveTo(idx)))));
+    }
+
+    /**
+     * <p><b>Requires</b>: Every selected position lies within [0, rowCount). </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} whose columns are views of the selected positions of this table's
+     *                       columns. No column data is copied. </p>
+     *
+     * @param selection The positions of the rows to keep
+     * @return A new {@code DraftTable}
+     */
+    DraftTable where(@NonNull SelectionVector selection) {
+        return new FlexibleDraftTable(
+                tableName(),
+                listOfColumns().stream()
+                        .map(column -> column.where(selection))
+                        .toList()
         );
     }
 
@@ -267,45 +281,62 @@ public class FlexibleDraftTable implements DraftTable {
 
     @Override
     public DraftTable randomDraw(int nRows) {
-        return where(
+        return where(SelectionVector.of(
                 ThreadLocalRandom.current()
                         .ints(0, rowCount())
                         .distinct()
                         .limit(DraftTableUtils.calculateEndpoint(nRows, rowCount()))
-                        .boxed()
-                        .toList()
-        );
+                        .toArray()
+        ));
     }
 
     @Override
     public DraftTable orderBy(@NonNull Comparator<Row> comparator) {
-        List<Row> sortedRows = new ArrayList<>(rows());
-        sortedRows.sort(comparator);
-        return create().fromRows(tableName(), sortedRows);
+        RowCursor row = cursor();
+        RowCursor otherRow = cursor();
+        return where(SelectionVector.sorted(
+                rowCount(),
+                (index, otherIndex) -> comparator.compare(row.moveTo(index), otherRow.moveTo(otherIndex))
+        ));
     }
 
     @Override
     public DraftTable orderBy(@NonNull String columnName, @NonNull SortingOrderType sortingOrderType) {
-        assumeColumnExists(columnName, this);
-        List<Row> sortedRows = new ArrayList<>(rows());
-        Comparator<Row> comparator = Comparator.nullsFirst(Comparator.comparing((Row row) -> row.valueOf(columnName)));
-        sortedRows.sort(sortingOrderType.equals(SortingOrderType.ASCENDING) ? comparator : comparator.reversed());
-        return create().fromRows(tableName(), sortedRows);
+        return orderBy(Items.of(columnName), sortingOrderType);
     }
 
     @Override
     public DraftTable orderBy(@NonNull Items<String> columnNames, @NonNull SortingOrderType sortingOrderType) {
-        columnNames.params().forEach(columnName -> assumeColumnExists(columnName, this));
-        List<Row> sortedRows = new ArrayList<>(rows());
-        Comparator<Row> comparator = Comparator.nullsFirst(Comparator.comparing((Row row) -> row.valueOf(firstElementOf(columnNames.params()))));
-        for (int i = 1; i < columnNames.params().size(); i++) {
-            int finalI = i;
-            comparator = Comparator.nullsFirst(comparator.thenComparing(
-                    (Row row) -> row.valueOf(columnNames.params().get(finalI))
-            ));
-        }
-        sortedRows.sort(sortingOrderType.equals(SortingOrderType.ASCENDING) ? comparator : comparator.reversed());
-        return create().fromRows(tableName(), sortedRows);
+        return where(SelectionVector.sorted(rowCount(), rowComparator(columnNames.params(), sortingOrderType)));
+    }
+
+    @Override
+    public DraftTable orderBy(@NonNull Items<String> columnNames,
+                              @NonNull SortingOrderType sortingOrderType,
+                              @NonNull ParallelOptions parallelOptions) {
+        return where(SelectionVector.sorted(rowCount(), rowComparator(columnNames.params(), sortingOrderType), parallelOptions));
+    }
+
+    @Override
+    public DraftTable topBy(@NonNull Items<String> columnNames, @NonNull SortingOrderType sortingOrderType, int nRows) {
+        return where(SelectionVector.sortedPrefix(
+                rowCount(),
+                DraftTableUtils.calculateEndpoint(nRows, rowCount()),
+                rowComparator(columnNames.params(), sortingOrderType)
+        ));
+    }
+
+    @Override
+    public DraftTable topBy(@NonNull Items<String> columnNames,
+                            @NonNull SortingOrderType sortingOrderType,
+                            int nRows,
+                            @NonNull ParallelOptions parallelOptions) {
+        return where(SelectionVector.sortedPrefix(
+                rowCount(),
+                DraftTableUtils.calculateEndpoint(nRows, rowCount()),
+                rowComparator(columnNames.params(), sortingOrderType),
+                parallelOptions
+        ));
     }
 
     @Override
@@ -339,6 +370,14 @@ public class FlexibleDraftTable implements DraftTable {
         return append(Items.using(row));
     }
 
+    @Override
+    public DraftTable join(@NonNull DraftTable otherDraftTable,
+                           @NonNull Items<String> leftKeys,
+                           @NonNull Items<String> rightKeys,
+                           @NonNull JoinType joinType) {
+        return HashJoin.join(this, otherDraftTable, leftKeys.params(), rightKeys.params(), joinType);
+    }
+
     @Override
     public DraftTable add(@NonNull Column newColumn) {
         return add(newColumn, null);
@@ -383,15 +422,10 @@ public class FlexibleDraftTable implements DraftTable {
     @Override
     public DraftTable drop(@NonNull String columnToDrop) {
         assumeColumnExists(columnToDrop, this);
-        if (columnNames().equals(List.of(columnToDrop))) {
+        if (columnCount() == 1) {
             return create().emptyDraftTable().nameTable(tableName());
         }
-        return new FlexibleDraftTable(
-                tableName(),
-                listOfColumns().stream()
-                        .filter(column -> !column.label().equals(columnToDrop))
-                        .toList()
-        );
+        return new FlexibleDraftTable(tableName(), columnsAt(positionsOf(columnToDrop), false));
     }
 
     @Override
@@ -400,12 +434,7 @@ public class FlexibleDraftTable implements DraftTable {
         if (columnNames().equals(Arrays.asList(columnsToDrop))) {
             return create().emptyDraftTable().nameTable(tableName());
         }
-        return new FlexibleDraftTable(
-                tableName(),
-                listOfColumns().stream()
-                        .filter(column -> not(in(columnsToDrop)).matches(column.label()))
-                        .toList()
-        );
+        return new FlexibleDraftTable(tableName(), columnsAt(positionsOf(columnsToDrop), false));
     }
 
     @Override
@@ -434,23 +463,15 @@ public class FlexibleDraftTable implements DraftTable {
     @Override
     public DraftTable apply(@NonNull String columnName, @NonNull Consumer<?> consumer) {
         assumeColumnExists(columnName, this);
-        listOfColumns().get(
-                 IntStream.range(0, columnCount())
-                         .filter(idx -> listOfColumns().get(idx).label().equals(columnName))
-                         .findFirst()
-                         .orElseThrow()
-        ).apply(consumer);
+        listOfColumns().get(positionOf(columnName)).apply(consumer);
         return this;
     }
 
     @Override
     public <T> Column gatherInto(@NonNull Class<T> aggregate, @NonNull Item<String> aggregateColumnName) {
-        return new FlexibleColumn(
-                aggregateColumnName.value(),
-                rows().stream()
-                    .map(row -> row.as(aggregate))
-                    .toList()
-        );
+        List<T> aggregates = new ArrayList<>(rowCount());
+        forEachRow(row -> aggregates.add(row.as(aggregate)));
+        return new FlexibleColumn(aggregateColumnName.value(), aggregates);
     }
 
     @Override
@@ -464,6 +485,73 @@ public class FlexibleDraftTable implements DraftTable {
         return new EmbeddedColumnSplitter(columnName, this);
     }
 
+    @Override
+    public TableGrouping groupBy(@NonNull Items<String> keys) {
+        return new FlexibleTableGrouping(this, keys.params());
+    }
+
+    /**
+     * Looks the name up in the index of the column positions. The index is built with the table, and re-keyed by
+     * {@link #rename} if a column relabels itself in place.
+     *
+     * @return The position of the first column with the provided label, or {@code ABSENT}
+     */
+    private int positionOf(String columnName) {
+        return positionOfLabel.getOrDefault(columnName, ABSENT);
+    }
+
+    private Map<String, Integer> indexColumnPositions() {
+        Map<String, Integer> positions = new HashMap<>(2 * columnCount());
+        for (int position = 0; position < columnCount(); position++) {
+            positions.putIfAbsent(listOfColumns().get(position).label(), position);
+        }
+        return positions;
+    }
+
+    private BitSet positionsOf(String... columnNames) {
+        BitSet positions = new BitSet(columnCount());
+        for (String columnName : columnNames) {
+            int position = positionOf(columnName);
+            if (position != ABSENT) {
+                positions.set(position);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @return The columns whose positions are, or are not, within the provided set, in table order
+     */
+    private List<Column> columnsAt(BitSet positions, boolean included) {
+        List<Column> columns = new ArrayList<>(columnCount());
+        for (int position = 0; position < columnCount(); position++) {
+            if (positions.get(position) == included) {
+                columns.add(listOfColumns().get(position));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Compares row indices by the values of the provided columns in place, with primitive comparisons for primitive
+     * columns, so that sorting yields a permutation of the rows instead of sorted copies of them.
+     */
+    private IntBinaryOperator rowComparator(List<String> columnNames, SortingOrderType sortingOrderType) {
+        columnNames.forEach(columnName -> assumeColumnExists(columnName, this));
+        List<IntBinaryOperator> comparators = columnNames.stream()
+                .map(columnName -> select(columnName).positionComparator(sortingOrderType))
+                .toList();
+        return (index, otherIndex) -> {
+            for (IntBinaryOperator comparator : comparators) {
+                int comparison = comparator.applyAsInt(index, otherIndex);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return 0;
+        };
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.JSON_STYLE);
@@ -1,20 +1,22 @@
 package com.cannestro.drafttable.core.tables;
 
 import com.cannestro.drafttable.core.columns.Column;
-import com.cannestro.drafttable.core.columns.FlexibleColumn;
+import com.cannestro.drafttable.core.columns.Columns;
 import com.cannestro.drafttable.core.inbound.*;
 import com.cannestro.drafttable.core.rows.Mappable;
 import com.cannestro.drafttable.core.rows.Row;
-import com.cannestro.drafttable.core.rows.HashMapRow;
-import com.cannestro.drafttable.supporting.utils.MapUtils;
+import com.cannestro.drafttable.core.rows.ArrayRow;
+import com.cannestro.drafttable.core.rows.RowSchema;
 import org.jspecify.annotations.NonNull;
 import org.paumard.streams.StreamsUtils;
 
 import java.net.http.HttpClient;
 import java.util.List;
+import java.util.Map;
 
 import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeColumnsHaveUniformSize;
 import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeRowsHaveEquivalentKeySets;
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeSizesMatch;
 import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniformityOf;
 import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniquenessOf;
 import static com.cannestro.drafttable.core.tables.DraftTable.DEFAULT_TABLE_NAME;
@@ -49,17 +51,22 @@ public class FlexibleDraftTableCreator implements TableCreator {
                 tableName,
                 firstElementOf(listOfRows)
                         .keys().stream()
-                        .map(name -> new FlexibleColumn(
+                        .map(name -> Columns.bestFitFor(
                                 name,
                                 listOfRows.stream().map(row -> row.valueOf(name)).toList()
-                        )).map(Column.class::cast)
+                        ))
                         .toList()
         );
     }
 
     @Override
     public <M extends Mappable> DraftTable fromObjects(@NonNull String tableName, @NonNull List<M> objects) {
-        return fromRows(tableName, objects.stream().map(HashMapRow::from).toList());
+        if (objects.isEmpty()) {
+            return emptyDraftTable();
+        }
+        List<Map<String, ?>> maps = objects.stream().<Map<String, ?>>map(Mappable::asMap).toList();
+        RowSchema schema = RowSchema.of(firstElementOf(maps).keySet());
+        return fromRows(tableName, maps.stream().map(map -> ArrayRow.from(schema, map)).toList());
     }
 
     @Override
@@ -68,8 +75,7 @@ public class FlexibleDraftTableCreator implements TableCreator {
         assumeUniformityOf(table);
         return new FlexibleDraftTable(
                 DEFAULT_TABLE_NAME,
-                StreamsUtils.zip(columnNames.stream(), table.stream(), FlexibleColumn::new)
-                        .map(Column.class::cast)
+                StreamsUtils.zip(columnNames.stream(), table.stream(), Columns::bestFitFor)
                         .toList()
         );
     }
@@ -78,11 +84,14 @@ public class FlexibleDraftTableCreator implements TableCreator {
     public DraftTable fromRowValues(@NonNull List<String> columnNames, @NonNull List<List<?>> table) {
         assumeUniquenessOf(columnNames);
         assumeUniformityOf(table);
+        RowSchema schema = RowSchema.of(columnNames);
         return fromRows(
                 DEFAULT_TABLE_NAME,
                 table.stream()
-                        .map(rowValues -> MapUtils.zip(columnNames, rowValues))
-                        .map(HashMapRow::new)
+                        .map(rowValues -> {
+                            assumeSizesMatch(columnNames, rowValues);
+                            return ArrayRow.from(schema, rowValues);
+                        })
                         .toList()
         );
     }
@@ -102,4 +111,9 @@ public class FlexibleDraftTableCreator implements TableCreator {
         return new DefaultJsonLoader();
     }
 
+    @Override
+    public JsonLoader fromJsonLines() {
+        return new JsonLinesLoader();
+    }
+
 }
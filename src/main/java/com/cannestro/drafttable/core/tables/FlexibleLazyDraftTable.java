@@ -0,0 +1,184 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.columns.SelectionVector;
+import org.hamcrest.Matcher;
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeColumnExists;
+
+
+/**
+ * <p> Records {@code where}, {@code select}, {@code drop} and {@code top} operations against a source
+ * {@code DraftTable}. Row-level operations are kept as an ordered list of steps, while projections only narrow the set
+ * of output columns. At collect time a single scan walks the rows once, evaluating each step in order; the resulting
+ * selection is then applied to the output columns only. </p>
+ */
+public class FlexibleLazyDraftTable implements LazyDraftTable {
+
+    private final DraftTable source;
+    private final List<String> columnNames;
+    private final List<PlanStep> steps;
+
+
+    FlexibleLazyDraftTable(@NonNull DraftTable source) {
+        this(source, List.copyOf(source.columnNames()), List.of());
+    }
+
+    private FlexibleLazyDraftTable(DraftTable source, List<String> columnNames, List<PlanStep> steps) {
+        this.source = source;
+        this.columnNames = columnNames;
+        this.steps = steps;
+    }
+
+    @Override
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public LazyDraftTable where(@NonNull String columnName, @NonNull Matcher<?> matcher) {
+        assumeColumnExists(columnName, columnNames());
+        return withStep(new Filter(columnName, matcher::matches, String.format("where %s %s", columnName, matcher)));
+    }
+
+    @Override
+    public <T, R> LazyDraftTable where(@NonNull String columnName,
+                                       @NonNull Function<T, R> columnAspect,
+                                       @NonNull Matcher<R> matcher) {
+        assumeColumnExists(columnName, columnNames());
+        return withStep(new Filter(
+                columnName,
+                value -> matcher.matches(columnAspect.apply((T) value)),
+                String.format("where aspect of %s %s", columnName, matcher)
+        ));
+    }
+
+    @Override
+    public LazyDraftTable select(@NonNull String... columnNames) {
+        Arrays.stream(columnNames).forEach(columnName -> assumeColumnExists(columnName, columnNames()));
+        List<String> selectedColumnNames = Arrays.asList(columnNames);
+        return new FlexibleLazyDraftTable(
+                source,
+                columnNames().stream().filter(selectedColumnNames::contains).toList(),
+                steps
+        );
+    }
+
+    @Override
+    public LazyDraftTable drop(@NonNull String... columnsToDrop) {
+        Arrays.stream(columnsToDrop).forEach(columnName -> assumeColumnExists(columnName, columnNames()));
+        List<String> droppedColumnNames = Arrays.asList(columnsToDrop);
+        return new FlexibleLazyDraftTable(
+                source,
+                columnNames().stream().filter(columnName -> !droppedColumnNames.contains(columnName)).toList(),
+                steps
+        );
+    }
+
+    @Override
+    public LazyDraftTable top(int nRows) {
+        if (nRows < 0) {
+            throw new IllegalArgumentException("Input must be non-negative");
+        }
+        return withStep(new Limit(nRows));
+    }
+
+    @Override
+    public String explain() {
+        StringBuilder plan = new StringBuilder(String.format("scan %s%n", source.tableName()));
+        steps.forEach(step -> plan.append(step.description()).append(System.lineSeparator()));
+        return plan.append("project ").append(columnNames()).toString();
+    }
+
+    @Override
+    public DraftTable collect() {
+        if (columnNames().isEmpty()) {
+            return FlexibleDraftTable.create().emptyDraftTable().nameTable(source.tableName());
+        }
+        if (steps.isEmpty()) {
+            return new FlexibleDraftTable(source.tableName(), columnNames().stream().map(source::select).toList());
+        }
+        SelectionVector selection = scan();
+        return new FlexibleDraftTable(
+                source.tableName(),
+                columnNames().stream()
+                        .map(columnName -> source.select(columnName).where(selection))
+                        .toList()
+        );
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The positions of the source rows surviving every step of the plan. The scan ends as soon
+     *                       as any {@code top} step has let through its quota of rows, since no later row can pass
+     *                       it. </p>
+     */
+    private SelectionVector scan() {
+        List<?>[] stepInputs = new List<?>[steps.size()];
+        for (int step = 0; step < steps.size(); step++) {
+            if (steps.get(step) instanceof Filter filter) {
+                stepInputs[step] = source.select(filter.columnName()).values();
+            }
+        }
+        int[] passed = new int[steps.size()];
+        int[] selected = new int[16];
+        int selectedCount = 0;
+        boolean exhausted = false;
+        rows:
+        for (int row = 0; row < source.rowCount() && !exhausted; row++) {
+            for (int step = 0; step < steps.size(); step++) {
+                PlanStep planStep = steps.get(step);
+                if (planStep instanceof Limit limit && passed[step] == limit.nRows()) {
+                    break rows;
+                }
+                if (planStep instanceof Filter filter && !filter.predicate().test(stepInputs[step].get(row))) {
+                    continue rows;
+                }
+                passed[step]++;
+                if (planStep instanceof Limit limit && passed[step] == limit.nRows()) {
+                    exhausted = true;
+                }
+            }
+            if (selectedCount == selected.length) {
+                selected = Arrays.copyOf(selected, selectedCount * 2);
+            }
+            selected[selectedCount++] = row;
+        }
+        return SelectionVector.of(Arrays.copyOf(selected, selectedCount));
+    }
+
+    private LazyDraftTable withStep(PlanStep step) {
+        List<PlanStep> newSteps = new ArrayList<>(steps);
+        newSteps.add(step);
+        return new FlexibleLazyDraftTable(source, columnNames, List.copyOf(newSteps));
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+
+    private sealed interface PlanStep permits Filter, Limit {
+
+        String description();
+
+    }
+
+    private record Filter(String columnName, Predicate<Object> predicate, String description) implements PlanStep {}
+
+    private record Limit(int nRows) implements PlanStep {
+
+        @Override
+        public String description() {
+            return "top " + nRows;
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.aggregations.Aggregation;
+import com.cannestro.drafttable.core.aggregations.TableGrouping;
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.Columns;
+import com.cannestro.drafttable.core.columns.SelectionVector;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.cannestro.drafttable.core.aggregations.FlexibleColumnGrouping.LABEL_FORMATTER;
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeColumnExists;
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniquenessOf;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Groups the rows of a {@code DraftTable} by hashing their composite keys column-wise into a {@code KeyIndex}, which
+ * assigns every row the dense id of its group without allocating a key object per row. Each aggregation then keeps one
+ * accumulation container per group and folds the values of its input column into them in a single pass. </p>
+ *
+ * <p> In parallel mode, the rows are partitioned into morsels of contiguous rows that are aggregated independently,
+ * each into its own {@code KeyIndex} and containers. The partial results are then merged in row order using the
+ * combiners of the collectors, so that the result is the same as that of a sequential aggregation. </p>
+ */
+final class FlexibleTableGrouping implements TableGrouping {
+
+    private final DraftTable draftTable;
+    private final List<String> keys;
+    private final @Nullable ParallelOptions parallelOptions;
+
+
+    FlexibleTableGrouping(@NonNull DraftTable draftTable, @NonNull List<String> keys) {
+        this(draftTable, keys, null);
+    }
+
+    private FlexibleTableGrouping(DraftTable draftTable, List<String> keys, @Nullable ParallelOptions parallelOptions) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Assumption broken - At least one key column must be provided.");
+        }
+        assumeUniquenessOf(keys);
+        keys.forEach(key -> assumeColumnExists(key, draftTable));
+        this.draftTable = draftTable;
+        this.keys = List.copyOf(keys);
+        this.parallelOptions = parallelOptions;
+    }
+
+    @Override
+    public TableGrouping inParallel(@NonNull ParallelOptions parallelOptions) {
+        return new FlexibleTableGrouping(draftTable, keys, parallelOptions);
+    }
+
+    @Override
+    public DraftTable agg(@NonNull Aggregation... aggregations) {
+        List<Aggregation> requested = List.of(aggregations);
+        requested.stream()
+                .map(Aggregation::columnName)
+                .filter(columnName -> !isNull(columnName))
+                .forEach(columnName -> assumeColumnExists(columnName, draftTable));
+        assumeUniquenessOf(Stream.concat(keys.stream(), requested.stream().map(Aggregation::outputName)).toList());
+
+        List<Column> keyColumns = keys.stream().map(draftTable::select).toList();
+        List<List<?>> inputs = requested.stream()
+                .<List<?>>map(aggregation -> isNull(aggregation.columnName()) ? null : draftTable.select(aggregation.columnName()).values())
+                .toList();
+        int rowCount = draftTable.rowCount();
+        Partial result = isNull(parallelOptions) || !parallelOptions.shouldParallelize(rowCount)
+                ? Partial.over(keyColumns, requested, inputs, 0, rowCount)
+                : aggregateInParallel(keyColumns, requested, inputs, rowCount);
+
+        int[] firstRows = new int[result.index().keyCount()];
+        Arrays.setAll(firstRows, result.index()::firstRowOf);
+        SelectionVector firstRowOfEachGroup = SelectionVector.of(firstRows);
+        List<Column> columns = new ArrayList<>(keys.size() + requested.size());
+        keyColumns.forEach(column -> columns.add(column.where(firstRowOfEachGroup)));
+        for (int idx = 0; idx < requested.size(); idx++) {
+            columns.add(Columns.bestFitFor(
+                    requested.get(idx).outputName(),
+                    result.containers().get(idx).stream().map(erase(requested.get(idx).collector()).finisher()).toList()
+            ));
+        }
+        return new FlexibleDraftTable(String.format(LABEL_FORMATTER, String.join(", ", keys)), columns);
+    }
+
+    private Partial aggregateInParallel(List<Column> keyColumns,
+                                        List<Aggregation> aggregations,
+                                        List<List<?>> inputs,
+                                        int rowCount) {
+        int[] bounds = parallelOptions.partition(rowCount);
+        List<Partial> partials = parallelOptions.invokeAll(
+                IntStream.range(0, bounds.length - 1)
+                        .mapToObj(morsel -> (Callable<Partial>) () -> Partial.over(keyColumns, aggregations, inputs, bounds[morsel], bounds[morsel + 1]))
+                        .toList()
+        );
+        KeyIndex index = new KeyIndex(keyColumns, partials.get(0).index().keyCount());
+        List<List<Object>> containers = aggregations.stream().<List<Object>>map(aggregation -> new ArrayList<>()).toList();
+        List<BinaryOperator<Object>> combiners = aggregations.stream().map(aggregation -> erase(aggregation.collector()).combiner()).toList();
+        for (Partial partial : partials) {
+            for (int localId = 0; localId < partial.index().keyCount(); localId++) {
+                int knownGroups = index.keyCount();
+                int id = index.idOf(partial.index().firstRowOf(localId));
+                for (int idx = 0; idx < containers.size(); idx++) {
+                    Object container = partial.containers().get(idx).get(localId);
+                    if (id == knownGroups) {
+                        containers.get(idx).add(container);
+                    } else {
+                        containers.get(idx).set(id, combiners.get(idx).apply(containers.get(idx).get(id), container));
+                    }
+                }
+            }
+        }
+        return new Partial(index, containers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collector<Object, Object, Object> erase(Collector<Object, ?, ?> collector) {
+        return (Collector<Object, Object, Object>) collector;
+    }
+
+
+    /**
+     * The groups found within a range of rows, by id, and one accumulation container per group for every aggregation.
+     */
+    private record Partial(KeyIndex index, List<List<Object>> containers) {
+
+        /**
+         * @param inputs The values to aggregate, per aggregation, or null to feed a null value per row
+         */
+        static Partial over(List<Column> keyColumns,
+                            List<Aggregation> aggregations,
+                            List<List<?>> inputs,
+                            int startInclusive,
+                            int endExclusive) {
+            KeyIndex index = new KeyIndex(keyColumns, 0);
+            int[] groupIds = new int[endExclusive - startInclusive];
+            for (int row = startInclusive; row < endExclusive; row++) {
+                groupIds[row - startInclusive] = index.idOf(row);
+            }
+            List<List<Object>> containers = new ArrayList<>(aggregations.size());
+            for (int idx = 0; idx < aggregations.size(); idx++) {
+                Collector<Object, Object, Object> collector = erase(aggregations.get(idx).collector());
+                List<Object> groupContainers = new ArrayList<>(index.keyCount());
+                for (int id = 0; id < index.keyCount(); id++) {
+                    groupContainers.add(collector.supplier().get());
+                }
+                BiConsumer<Object, Object> accumulator = collector.accumulator();
+                List<?> values = inputs.get(idx);
+                for (int row = startInclusive; row < endExclusive; row++) {
+                    accumulator.accept(groupContainers.get(groupIds[row - startInclusive]), isNull(values) ? null : values.get(row));
+                }
+                containers.add(groupContainers);
+            }
+            return new Partial(index, containers);
+        }
+
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.ColumnBuffer;
+import com.cannestro.drafttable.core.columns.SelectionVector;
+import com.cannestro.drafttable.core.options.JoinType;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeColumnExists;
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.assumeDataTypesMatch;
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeSizesMatch;
+import static com.cannestro.drafttable.core.assumptions.ListAssumptions.assumeUniquenessOf;
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Joins two {@code DraftTable} objects by building a {@code KeyIndex} over the key columns of the smaller table and
+ * probing it with the rows of the larger one. The join produces pairs of row positions, and every output column is
+ * then gathered from its source column in one pass, so that no intermediate {@code Row} objects are created. </p>
+ *
+ * <p> Matching pairs are ordered by their left row, then by their right row. Unmatched left rows keep their place in
+ * that order, and unmatched right rows follow at the end, in their original order. </p>
+ */
+final class HashJoin {
+
+    private static final int NO_ROW = -1;
+
+    private final DraftTable left;
+    private final DraftTable right;
+    private final List<String> leftKeys;
+    private final List<String> rightKeys;
+    private final List<Column> leftKeyColumns;
+    private final List<Column> rightKeyColumns;
+    private final List<List<?>> leftKeyValues;
+    private final List<List<?>> rightKeyValues;
+
+
+    private HashJoin(DraftTable left, DraftTable right, List<String> leftKeys, List<String> rightKeys) {
+        this.left = left;
+        this.right = right;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.leftKeyColumns = leftKeys.stream().map(left::select).toList();
+        this.rightKeyColumns = rightKeys.stream().map(right::select).toList();
+        this.leftKeyValues = KeyIndex.valuesOf(leftKeyColumns);
+        this.rightKeyValues = KeyIndex.valuesOf(rightKeyColumns);
+    }
+
+    /**
+     * <p><b>Requires</b>: At least one pair of key columns is provided. The key columns exist in their respective
+     *                     tables, and the columns of each pair are of the same type. The non-key column names of the
+     *                     right table do not clash with the column names of the left table. </p>
+     * <p><b>Guarantees</b>: A new {@code DraftTable} named after the left table. It holds the columns of the left
+     *                       table followed by the non-key columns of the right table, except for semi and anti joins,
+     *                       which hold the columns of the left table only. Left key columns are filled from the right
+     *                       key columns for right rows without a match. </p>
+     *
+     * @param left The left table
+     * @param right The right table
+     * @param leftKeys The key column names of the left table
+     * @param rightKeys The key column names of the right table, in the same order as the left key column names
+     * @param joinType The kind of join
+     * @return A new {@code DraftTable}
+     */
+    static DraftTable join(@NonNull DraftTable left,
+                           @NonNull DraftTable right,
+                           @NonNull List<String> leftKeys,
+                           @NonNull List<String> rightKeys,
+                           @NonNull JoinType joinType) {
+        if (leftKeys.isEmpty()) {
+            throw new IllegalArgumentException("Assumption broken - At least one key column must be provided.");
+        }
+        assumeSizesMatch(leftKeys, rightKeys);
+        assumeUniquenessOf(leftKeys);
+        assumeUniquenessOf(rightKeys);
+        leftKeys.forEach(name -> assumeColumnExists(name, left));
+        rightKeys.forEach(name -> assumeColumnExists(name, right));
+        for (int idx = 0; idx < leftKeys.size(); idx++) {
+            assumeKeyTypesMatch(left.select(leftKeys.get(idx)), right.select(rightKeys.get(idx)));
+        }
+
+        HashJoin hashJoin = new HashJoin(left, right, leftKeys, rightKeys);
+        return switch (joinType) {
+            case SEMI -> hashJoin.filterLeft(true);
+            case ANTI -> hashJoin.filterLeft(false);
+            case INNER -> hashJoin.pairUp(false, false);
+            case LEFT -> hashJoin.pairUp(true, false);
+            case RIGHT -> hashJoin.pairUp(false, true);
+            case FULL -> hashJoin.pairUp(true, true);
+        };
+    }
+
+    /**
+     * Keys are matched with {@code equals}, so e.g. an {@code Integer} key never matches a {@code Long} key holding the
+     * same number. A key column holding only nulls matches nothing either way, and is accepted whatever its type.
+     */
+    private static void assumeKeyTypesMatch(Column leftKey, Column rightKey) {
+        if (leftKey.nullCount() < leftKey.size() && rightKey.nullCount() < rightKey.size()) {
+            assumeDataTypesMatch(leftKey.dataType(), rightKey.dataType());
+        }
+    }
+
+    private DraftTable filterLeft(boolean keepMatched) {
+        boolean[] leftMatched = new boolean[left.rowCount()];
+        if (buildOnLeft()) {
+            Build build = Build.over(leftKeyColumns, left.rowCount());
+            boolean[] keyMatched = new boolean[build.index.keyCount()];
+            for (int rightRow = 0; rightRow < right.rowCount(); rightRow++) {
+                int id = build.probe(rightKeyValues, rightRow);
+                if (id != KeyIndex.ABSENT) {
+                    keyMatched[id] = true;
+                }
+            }
+            for (int leftRow = 0; leftRow < leftMatched.length; leftRow++) {
+                leftMatched[leftRow] = build.ids[leftRow] != KeyIndex.ABSENT && keyMatched[build.ids[leftRow]];
+            }
+        } else {
+            Build build = Build.over(rightKeyColumns, right.rowCount());
+            for (int leftRow = 0; leftRow < leftMatched.length; leftRow++) {
+                leftMatched[leftRow] = build.probe(leftKeyValues, leftRow) != KeyIndex.ABSENT;
+            }
+        }
+        SelectionVector selection = SelectionVector.matching(leftMatched.length, row -> leftMatched[row] == keepMatched);
+        return new FlexibleDraftTable(
+                left.tableName(),
+                left.columns().stream().map(column -> column.where(selection)).toList()
+        );
+    }
+
+    private DraftTable pairUp(boolean keepLeft, boolean keepRight) {
+        List<String> rightValueNames = right.columnNames().stream().filter(name -> !rightKeys.contains(name)).toList();
+        assumeUniquenessOf(Stream.concat(left.columnNames().stream(), rightValueNames.stream()).toList());
+
+        RowPairs pairs = buildOnLeft() ? pairByProbingRight(keepLeft, keepRight) : pairByProbingLeft(keepLeft, keepRight);
+        int[] leftRows = pairs.leftRows();
+        int[] rightRows = pairs.rightRows();
+
+        List<Column> columns = new ArrayList<>(left.columnCount() + rightValueNames.size());
+        for (Column column : left.columns()) {
+            int keyPosition = leftKeys.indexOf(column.label());
+            Column fallback = keyPosition < 0 ? null : rightKeyColumns.get(keyPosition);
+            columns.add(gather(column, leftRows, fallback, rightRows));
+        }
+        for (String name : rightValueNames) {
+            columns.add(gather(right.select(name), rightRows, null, rightRows));
+        }
+        return new FlexibleDraftTable(left.tableName(), columns);
+    }
+
+    private RowPairs pairByProbingLeft(boolean keepLeft, boolean keepRight) {
+        Build build = Build.over(rightKeyColumns, right.rowCount());
+        boolean[] rightMatched = new boolean[right.rowCount()];
+        RowPairs pairs = new RowPairs(Math.max(left.rowCount(), right.rowCount()));
+        for (int leftRow = 0; leftRow < left.rowCount(); leftRow++) {
+            int id = build.probe(leftKeyValues, leftRow);
+            if (id == KeyIndex.ABSENT) {
+                if (keepLeft) {
+                    pairs.add(leftRow, NO_ROW);
+                }
+                continue;
+            }
+            for (int rightRow = build.head[id]; rightRow != NO_ROW; rightRow = build.next[rightRow]) {
+                pairs.add(leftRow, rightRow);
+                rightMatched[rightRow] = true;
+            }
+        }
+        if (keepRight) {
+            addUnmatched(pairs, rightMatched);
+        }
+        return pairs;
+    }
+
+    private RowPairs pairByProbingRight(boolean keepLeft, boolean keepRight) {
+        Build build = Build.over(leftKeyColumns, left.rowCount());
+        boolean[] leftMatched = new boolean[left.rowCount()];
+        boolean[] rightMatched = new boolean[right.rowCount()];
+        RowPairs pairs = new RowPairs(Math.max(left.rowCount(), right.rowCount()));
+        for (int rightRow = 0; rightRow < right.rowCount(); rightRow++) {
+            int id = build.probe(rightKeyValues, rightRow);
+            if (id == KeyIndex.ABSENT) {
+                continue;
+            }
+            for (int leftRow = build.head[id]; leftRow != NO_ROW; leftRow = build.next[leftRow]) {
+                pairs.add(leftRow, rightRow);
+                leftMatched[leftRow] = true;
+            }
+            rightMatched[rightRow] = true;
+        }
+        if (keepLeft) {
+            for (int leftRow = 0; leftRow < leftMatched.length; leftRow++) {
+                if (!leftMatched[leftRow]) {
+                    pairs.add(leftRow, NO_ROW);
+                }
+            }
+        }
+        pairs.sortByLeftThenRight();
+        if (keepRight) {
+            addUnmatched(pairs, rightMatched);
+        }
+        return pairs;
+    }
+
+    private static void addUnmatched(RowPairs pairs, boolean[] rightMatched) {
+        for (int rightRow = 0; rightRow < rightMatched.length; rightRow++) {
+            if (!rightMatched[rightRow]) {
+                pairs.add(NO_ROW, rightRow);
+            }
+        }
+    }
+
+    private boolean buildOnLeft() {
+        return left.rowCount() < right.rowCount();
+    }
+
+    /**
+     * Gathers the values of the source column at the provided rows. A missing row is filled from the fallback column
+     * at the corresponding fallback row, if any, and is otherwise null.
+     */
+    private static Column gather(Column source, int[] rows, @Nullable Column fallback, int[] fallbackRows) {
+        if (Arrays.stream(rows).allMatch(row -> row != NO_ROW)) {
+            return source.where(SelectionVector.of(rows));
+        }
+        List<?> values = source.values();
+        List<?> fallbackValues = isNull(fallback) ? null : fallback.values();
+        ColumnBuffer buffer = new ColumnBuffer(rows.length);
+        for (int idx = 0; idx < rows.length; idx++) {
+            if (rows[idx] != NO_ROW) {
+                buffer.add(values.get(rows[idx]));
+            } else if (!isNull(fallbackValues) && fallbackRows[idx] != NO_ROW) {
+                buffer.add(fallbackValues.get(fallbackRows[idx]));
+            } else {
+                buffer.add(null);
+            }
+        }
+        return buffer.toColumn(source.label());
+    }
+
+
+    /**
+     * The build side of a join: the key ids of its rows, and for every key id a chain of the rows sharing it, linked
+     * through {@code head} and {@code next} in ascending row order. Rows with a null key are left out.
+     */
+    private record Build(KeyIndex index, int[] ids, int[] head, int[] next) {
+
+        static Build over(List<Column> keyColumns, int rowCount) {
+            KeyIndex index = new KeyIndex(keyColumns, rowCount);
+            List<List<?>> keyValues = KeyIndex.valuesOf(keyColumns);
+            int[] ids = new int[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                ids[row] = KeyIndex.hasNullKey(keyValues, row) ? KeyIndex.ABSENT : index.idOf(row);
+            }
+            int[] head = new int[index.keyCount()];
+            Arrays.fill(head, NO_ROW);
+            int[] next = new int[rowCount];
+            for (int row = rowCount - 1; row >= 0; row--) {
+                if (ids[row] != KeyIndex.ABSENT) {
+                    next[row] = head[ids[row]];
+                    head[ids[row]] = row;
+                }
+            }
+            return new Build(index, ids, head, next);
+        }
+
+        int probe(List<List<?>> probeValues, int row) {
+            return KeyIndex.hasNullKey(probeValues, row) ? KeyIndex.ABSENT : index.find(probeValues, row);
+        }
+
+    }
+
+
+    /**
+     * A growable list of (left row, right row) pairs, each packed into a single {@code long} so that the pairs can be
+     * sorted without boxing.
+     */
+    private static final class RowPairs {
+
+        private long[] packed;
+        private int size;
+
+        RowPairs(int initialCapacity) {
+            this.packed = new long[Math.max(initialCapacity, 16)];
+        }
+
+        void add(int leftRow, int rightRow) {
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = ((long) leftRow << 32) | ((rightRow + 1) & 0xFFFFFFFFL);
+        }
+
+        void sortByLeftThenRight() {
+            Arrays.sort(packed, 0, size);
+        }
+
+        int[] leftRows() {
+            int[] rows = new int[size];
+            Arrays.setAll(rows, idx -> (int) (packed[idx] >> 32));
+            return rows;
+        }
+
+        int[] rightRows() {
+            int[] rows = new int[size];
+            Arrays.setAll(rows, idx -> (int) packed[idx] - 1);
+            return rows;
+        }
+
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.DictionaryColumn;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Assigns dense ids, in order of first appearance, to the distinct composite keys formed by a fixed set of key
+ * columns. Keys are hashed and compared column by column, directly against the column values, so that no key object is
+ * allocated per row. Each id remembers the first row that produced it, and later rows are compared against that row.
+ * Key values are compared with {@code equals}, so nulls are equal to each other. Within dictionary-encoded key columns,
+ * rows of the indexed columns are compared by their integer codes instead. </p>
+ */
+final class KeyIndex {
+
+    static final int ABSENT = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final List<List<?>> keyColumns;
+    private final @Nullable DictionaryColumn[] dictionaryColumns;
+    private int[] slots;
+    private int[] keyRows;
+    private int[] keyHashes;
+    private int keyCount;
+
+
+    /**
+     * @param keyColumns One or more columns of equal size
+     * @param expectedKeys A hint for the number of distinct keys
+     */
+    KeyIndex(@NonNull List<Column> keyColumns, int expectedKeys) {
+        this.keyColumns = valuesOf(keyColumns);
+        this.dictionaryColumns = keyColumns.stream()
+                .map(column -> column instanceof DictionaryColumn dictionaryColumn ? dictionaryColumn : null)
+                .toArray(DictionaryColumn[]::new);
+        this.slots = emptySlots(capacityFor(expectedKeys));
+        this.keyRows = new int[MIN_CAPACITY];
+        this.keyHashes = new int[MIN_CAPACITY];
+    }
+
+    static List<List<?>> valuesOf(@NonNull List<Column> columns) {
+        return columns.stream().<List<?>>map(Column::values).toList();
+    }
+
+    /**
+     * @param keyColumns The values of the key columns
+     * @param row A row within [0, size)
+     * @return True if and only if any key value of the row is null
+     */
+    static boolean hasNullKey(@NonNull List<List<?>> keyColumns, int row) {
+        for (List<?> column : keyColumns) {
+            if (isNull(column.get(row))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The id of the key of the row, which is assigned the next free id if it was not seen
+     *                       before. </p>
+     *
+     * @param row A row of the key columns
+     * @return An id within [0, keyCount)
+     */
+    int idOf(int row) {
+        int hash = hash(keyColumns, row);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != ABSENT) {
+            int id = slots[slot];
+            if (keyHashes[id] == hash && sameIndexedKey(keyRows[id], row)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int id = register(row, hash);
+        slots[slot] = id;
+        if (keyCount * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * <p><b>Requires</b>: The probe columns correspond, in number and order, to the key columns. </p>
+     * <p><b>Guarantees</b>: The id of the equal key, without registering the probed key if it is absent. </p>
+     *
+     * @param probeColumns The values of columns to probe with
+     * @param row A row of the probe columns
+     * @return An id within [0, keyCount), or {@code ABSENT}
+     */
+    int find(@NonNull List<List<?>> probeColumns, int row) {
+        int hash = hash(probeColumns, row);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != ABSENT) {
+            int id = slots[slot];
+            if (keyHashes[id] == hash && sameKey(keyColumns, keyRows[id], probeColumns, row)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @param id An id within [0, keyCount)
+     * @return The first row that produced the key
+     */
+    int firstRowOf(int id) {
+        return keyRows[id];
+    }
+
+    private int register(int row, int hash) {
+        if (keyCount == keyRows.length) {
+            keyRows = Arrays.copyOf(keyRows, keyCount * 2);
+            keyHashes = Arrays.copyOf(keyHashes, keyCount * 2);
+        }
+        keyRows[keyCount] = row;
+        keyHashes[keyCount] = hash;
+        return keyCount++;
+    }
+
+    private void rehash() {
+        slots = emptySlots(slots.length * 2);
+        int mask = slots.length - 1;
+        for (int id = 0; id < keyCount; id++) {
+            int slot = keyHashes[id] & mask;
+            while (slots[slot] != ABSENT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+
+    private static int hash(List<List<?>> columns, int row) {
+        int hash = 1;
+        for (List<?> column : columns) {
+            hash = 31 * hash + Objects.hashCode(column.get(row));
+        }
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameIndexedKey(int row, int otherRow) {
+        for (int idx = 0; idx < keyColumns.size(); idx++) {
+            DictionaryColumn dictionaryColumn = dictionaryColumns[idx];
+            boolean same = isNull(dictionaryColumn)
+                    ? Objects.equals(keyColumns.get(idx).get(row), keyColumns.get(idx).get(otherRow))
+                    : dictionaryColumn.codeAt(row) == dictionaryColumn.codeAt(otherRow);
+            if (!same) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameKey(List<List<?>> columns, int row, List<List<?>> otherColumns, int otherRow) {
+        for (int idx = 0; idx < columns.size(); idx++) {
+            if (!Objects.equals(columns.get(idx).get(row), otherColumns.get(idx).get(otherRow))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int capacityFor(int expectedKeys) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2L * expectedKeys && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, ABSENT);
+        return slots;
+    }
+
+}
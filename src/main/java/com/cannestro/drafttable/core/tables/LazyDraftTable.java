@@ -0,0 +1,104 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.options.Items;
+import org.hamcrest.Matcher;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * <p> A deferred view of a {@code DraftTable}. Operations are recorded as a logical plan rather than executed, and the
+ * whole plan is evaluated in a single fused pass over the source table when {@link #collect()} is called. Filters only
+ * read the columns they reference, {@code top} stops the scan as soon as enough rows have been found, and columns
+ * that are not part of the final projection are never materialized. For example:
+ * <pre>{@code
+ * DraftTable result = table.lazy()
+ *         .where("state", is("TX"))
+ *         .where("magnitude", greaterThan(3))
+ *         .select("date", "magnitude")
+ *         .top(10)
+ *         .collect();
+ * }</pre>
+ * </p>
+ */
+public interface LazyDraftTable {
+
+    /**
+     * Fetches the labels of every column that will be present in the collected {@code DraftTable}.
+     *
+     * @return A list of zero or more labels
+     */
+    List<String> columnNames();
+
+    /**
+     * Records a selection of the rows that match the specified column label and selection criteria.
+     *
+     * @param columnName A string label
+     * @param matcher Any matcher of compatible type
+     * @return A new {@code LazyDraftTable}
+     */
+    LazyDraftTable where(@NonNull String columnName, @NonNull Matcher<?> matcher);
+
+    /**
+     * Records a selection of the rows that match the specified column aspect and selection criteria.
+     *
+     * @param columnName A string label
+     * @param columnAspect A mapping of the column values to some derived aspect
+     * @param matcher Any matcher of compatible type
+     * @return A new {@code LazyDraftTable}
+     * @param <T> The type of the column
+     * @param <R> The output type of the aspect's mapping
+     */
+    <T, R> LazyDraftTable where(@NonNull String columnName,
+                                @NonNull Function<T, R> columnAspect,
+                                @NonNull Matcher<R> matcher);
+
+    /**
+     * Records a projection onto the columns matching the provided labels. Column order is preserved.
+     *
+     * @param columnNames A list of string labels
+     * @return A new {@code LazyDraftTable}
+     */
+    LazyDraftTable select(@NonNull String... columnNames);
+
+    /**
+     * Records the removal of the specified columns.
+     *
+     * @param columnsToDrop Zero of more string labels
+     * @return A new {@code LazyDraftTable}
+     */
+    LazyDraftTable drop(@NonNull String... columnsToDrop);
+
+    /**
+     * Records a selection of rows, from the top, up to {@code nRows} or the total row count, whichever is smaller.
+     *
+     * @param nRows A non-negative integer
+     * @return A new {@code LazyDraftTable}
+     */
+    LazyDraftTable top(int nRows);
+
+    /**
+     * Describes the recorded logical plan, one operation per line, in the order they will be applied.
+     *
+     * @return A human-readable description of the plan
+     */
+    String explain();
+
+    /**
+     * Evaluates the recorded logical plan against the source table.
+     *
+     * @return A new {@code DraftTable}
+     */
+    DraftTable collect();
+
+    default LazyDraftTable select(@NonNull Items<String> columns) {
+        return select(columns.paramsArray());
+    }
+
+    default LazyDraftTable drop(@NonNull Items<String> columnsToDrop) {
+        return drop(columnsToDrop.paramsArray());
+    }
+
+}
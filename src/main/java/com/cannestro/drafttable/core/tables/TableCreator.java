@@ -82,6 +82,12 @@ public interface TableCreator {
 
     JsonLoader fromJsonArray();
 
+    /**
+     * @return A loader of JSON Lines (a.k.a. NDJSON) input, i.e. one JSON object per line, which parses large files in
+     *         parallel
+     */
+    JsonLoader fromJsonLines();
+
 
     default DraftTable fromColumns(@NonNull List<Column> columns) {
         return fromColumns(DEFAULT_TABLE_NAME, columns);
@@ -1,6 +1,7 @@
 package com.cannestro.drafttable.supporting.csv;
 
 import com.cannestro.drafttable.core.rows.Mappable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
 
 
 public interface CsvParsingOptions extends CsvEssentials {
@@ -15,4 +16,11 @@ public interface CsvParsingOptions extends CsvEssentials {
 
     <T extends CsvBean & Mappable> Class<T> type();
 
+    /**
+     * @return The type inference to apply to schema-less loads, or null to load every column as {@code String} data
+     */
+    default TypeInferenceOptions typeInference() {
+        return null;
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.cannestro.drafttable.supporting.csv;
 
+import com.cannestro.drafttable.supporting.csv.options.ValueFormatters;
+
 
 public interface CsvWritingOptions extends CsvEssentials {
 
@@ -7,4 +9,11 @@ public interface CsvWritingOptions extends CsvEssentials {
 
     String fillerValue();
 
+    /**
+     * @return The per-type formatters of the non-null values. Defaults to every value's {@code toString()}.
+     */
+    default ValueFormatters valueFormatters() {
+        return ValueFormatters.defaults();
+    }
+
 }
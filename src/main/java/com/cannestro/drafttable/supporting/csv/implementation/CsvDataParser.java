@@ -12,11 +12,15 @@ import com.opencsv.exceptions.CsvException;
 import com.cannestro.drafttable.supporting.utils.FileUtils;
 import com.cannestro.drafttable.supporting.utils.JsonUtils;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
 
 
 /**
@@ -39,23 +43,36 @@ public class CsvDataParser {
     }
 
     public static List<List<String>> readAllLines(@NonNull String resourceFilePath, @NonNull CsvParsingOptions loadingOptions) {
-        try (CSVReader csvReader = new CSVReaderBuilder(FileUtils.createReaderFromResource(resourceFilePath, loadingOptions.charset()))
-                .withSkipLines(loadingOptions.skipLines())
-                .withCSVParser(new CSVParserBuilder()
-                        .withSeparator(loadingOptions.delimiter())
-                        .withEscapeChar(loadingOptions.escapeCharacter())
-                        .withQuoteChar(loadingOptions.quoteCharacter())
-                        .withStrictQuotes(loadingOptions.useStrictQuotes())
-                        .withIgnoreQuotations(loadingOptions.ignoreQuotations())
-                        .withIgnoreLeadingWhiteSpace(loadingOptions.ignoreLeadingWhiteSpace())
-                        .build())
-                .build()) {
+        try (CSVReader csvReader = createCsvReader(resourceFilePath, loadingOptions)) {
             return csvReader.readAll().stream().map(line -> Arrays.stream(line).toList()).toList();
         } catch (CsvException | IOException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
+    /**
+     * Reads the CSV one record at a time, handing each record to the consumer as soon as it is parsed. Unlike
+     * {@code readAllLines}, no record is retained once the consumer returns.
+     *
+     * @param resourceFilePath A valid resource file path to the CSV file to be read
+     * @param loadingOptions The parsing options to apply, or null to use the defaults of {@code readAllLines}
+     * @param lineConsumer Receives every record, in file order, including the header line
+     */
+    public static void streamLines(@NonNull String resourceFilePath,
+                                   @Nullable CsvParsingOptions loadingOptions,
+                                   @NonNull Consumer<String[]> lineConsumer) {
+        try (CSVReader csvReader = isNull(loadingOptions)
+                ? new CSVReader(FileUtils.createReaderFromResource(resourceFilePath, CsvEssentials.DEFAULT_CHARSET))
+                : createCsvReader(resourceFilePath, loadingOptions)) {
+            String[] line;
+            while ((line = csvReader.readNext()) != null) {
+                lineConsumer.accept(line);
+            }
+        } catch (CsvException | IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
     public static <T extends CsvBean> List<T> buildBeansFrom(@NonNull String resourceFilePath, @NonNull CsvParsingOptions loadingOptions) {
         try (Reader reader = FileUtils.createReaderFromResource(resourceFilePath, loadingOptions.charset())) {
             CsvToBean<T> csvBean = new CsvToBeanBuilder<T>(reader)
@@ -94,4 +111,19 @@ public class CsvDataParser {
         return JsonUtils.jsonStringListFrom(buildBeansFrom(resourceFilePath, csvBeanClass));
     }
 
+    private static CSVReader createCsvReader(@NonNull String resourceFilePath,
+                                             @NonNull CsvParsingOptions loadingOptions) throws IOException {
+        return new CSVReaderBuilder(FileUtils.createReaderFromResource(resourceFilePath, loadingOptions.charset()))
+                .withSkipLines(loadingOptions.skipLines())
+                .withCSVParser(new CSVParserBuilder()
+                        .withSeparator(loadingOptions.delimiter())
+                        .withEscapeChar(loadingOptions.escapeCharacter())
+                        .withQuoteChar(loadingOptions.quoteCharacter())
+                        .withStrictQuotes(loadingOptions.useStrictQuotes())
+                        .withIgnoreQuotations(loadingOptions.ignoreQuotations())
+                        .withIgnoreLeadingWhiteSpace(loadingOptions.ignoreLeadingWhiteSpace())
+                        .build())
+                .build();
+    }
+
 }
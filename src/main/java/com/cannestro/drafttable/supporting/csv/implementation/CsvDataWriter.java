@@ -9,12 +9,12 @@ import com.opencsv.ResultSetHelperService;
 import org.jspecify.annotations.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Objects.isNull;
+
 
 /**
  * @author Victor Cannestro
@@ -22,6 +22,7 @@ import java.util.List;
 @Slf4j
 public class CsvDataWriter {
 
+    public static final int WRITE_BUFFER_SIZE = 1 << 16;
 
     private CsvDataWriter() {}
 
@@ -45,15 +46,7 @@ public class CsvDataWriter {
         FileUtils.touchFile(file);
         List<List<String>> data = new ArrayList<>(List.of(headers));
         data.addAll(lines);
-        ResultSetHelperService resultSetHelper = new ResultSetHelperService();
-        resultSetHelper.setNullDefault(writeOptions.fillerValue());
-        try (CSVWriter writer = (CSVWriter) new CSVWriterBuilder(new FileWriter(file, writeOptions.charset()))
-                .withSeparator(writeOptions.delimiter())
-                .withEscapeChar(writeOptions.escapeCharacter())
-                .withQuoteChar(writeOptions.quoteCharacter())
-                .withLineEnd(writeOptions.lineEnder())
-                .withResultSetHelper(resultSetHelper)
-                .build()) {
+        try (CSVWriter writer = openWriter(file, writeOptions)) {
             writer.writeAll(data.stream().map(line -> line.toArray(new String[0])).toList(), false);
         } catch (IOException e) {
             log.error("Could not export data to CSV. Encountered the following: {}", e.toString());
@@ -63,6 +56,47 @@ public class CsvDataWriter {
         return true;
     }
 
+    /**
+     * Streams the provided columns to the destination filepath <b>in row order</b>, one line at a time, so that memory
+     * use does not grow with the number of rows. Non-null values are written through the value formatters of the
+     * options, and null values as the filler value. Will create a new file, if necessary, otherwise the existing file
+     * will be overwritten. Note that the order of the headers <b>must match</b> the order of the columns.
+     *
+     * @param file The destination file containing the filepath, for example {@code ./src/main/resources/csv/export_file.csv}
+     * @param headers The column name labels
+     * @param columnValues The values of every column, of equal sizes, ideally with random access
+     * @param writeOptions Any customized CSV export options
+     * @throws UncheckedIOException If the file could not be written
+     */
+    public static void writeColumnsToCsv(@NonNull File file,
+                                         @NonNull List<String> headers,
+                                         @NonNull List<? extends List<?>> columnValues,
+                                         @NonNull CsvWritingOptions writeOptions) {
+        log.debug("Attempting streaming CSV export to: {}", file.getName());
+        FileUtils.touchFile(file);
+        int rowCount = columnValues.isEmpty() ? 0 : columnValues.get(0).size();
+        String[] line = new String[columnValues.size()];
+        try (CSVWriter writer = openWriter(file, writeOptions)) {
+            writer.writeNext(headers.toArray(new String[0]), false);
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                for (int columnIndex = 0; columnIndex < line.length; columnIndex++) {
+                    Object value = columnValues.get(columnIndex).get(rowIndex);
+                    line[columnIndex] = isNull(value)
+                            ? writeOptions.fillerValue()
+                            : writeOptions.valueFormatters().format(value);
+                }
+                writer.writeNext(line, false);
+            }
+            if (writer.checkError() && !isNull(writer.getException())) {
+                throw writer.getException();
+            }
+        } catch (IOException e) {
+            log.error("Could not export data to CSV. Encountered the following: {}", e.toString());
+            throw new UncheckedIOException("Could not export data to CSV: " + file.getAbsolutePath(), e);
+        }
+        log.debug("Successfully completed streaming CSV export of {} rows to: {}", rowCount, file.getAbsolutePath());
+    }
+
     /**
      * Exports the provided list of line data to the destination filepath using a comma delimiter, new line escape
      * character, double quote as the quote character, and an empty string as the filler value <b>in the user's
@@ -80,4 +114,20 @@ public class CsvDataWriter {
         return writeAllLinesToCsv(file, headers, lines, CustomizableWritingOptions.allDefaults());
     }
 
+    private static CSVWriter openWriter(File file, CsvWritingOptions writeOptions) throws IOException {
+        ResultSetHelperService resultSetHelper = new ResultSetHelperService();
+        resultSetHelper.setNullDefault(writeOptions.fillerValue());
+        Writer bufferedWriter = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), writeOptions.charset()),
+                WRITE_BUFFER_SIZE
+        );
+        return (CSVWriter) new CSVWriterBuilder(bufferedWriter)
+                .withSeparator(writeOptions.delimiter())
+                .withEscapeChar(writeOptions.escapeCharacter())
+                .withQuoteChar(writeOptions.quoteCharacter())
+                .withLineEnd(writeOptions.lineEnder())
+                .withResultSetHelper(resultSetHelper)
+                .build();
+    }
+
 }
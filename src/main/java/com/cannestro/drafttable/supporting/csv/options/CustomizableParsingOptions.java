@@ -3,6 +3,7 @@ package com.cannestro.drafttable.supporting.csv.options;
 import com.cannestro.drafttable.supporting.csv.CsvEssentials;
 import com.cannestro.drafttable.supporting.csv.CsvParsingOptions;
 import com.cannestro.drafttable.supporting.csv.CsvBean;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
 import lombok.Builder;
 
 import java.nio.charset.Charset;
@@ -21,6 +22,7 @@ import static java.util.Objects.isNull;
  * @param ignoreQuotations defaults to {@code false}
  * @param skipLines defaults to {@code 0}
  * @param type defaults to {@code null}
+ * @param typeInference defaults to {@code null}, i.e. every column of a schema-less load holds {@code String} data
  */
 @Builder
 public record CustomizableParsingOptions(Character delimiter,
@@ -31,7 +33,8 @@ public record CustomizableParsingOptions(Character delimiter,
                                          boolean ignoreLeadingWhiteSpace,
                                          boolean ignoreQuotations,
                                          int skipLines,
-                                         Class<? extends CsvBean> type) implements CsvParsingOptions {
+                                         Class<? extends CsvBean> type,
+                                         TypeInferenceOptions typeInference) implements CsvParsingOptions {
 
     public CustomizableParsingOptions {
         if (isNull(delimiter)) {
@@ -17,7 +17,8 @@ import static java.util.Objects.isNull;
  * @param quoteCharacter defaults to {@code '\"'}
  * @param charset defaults to {@code StandardCharsets.UTF_8}
  * @param lineEnder defaults to {@code "\n"}
- * @param fillerValue defaults to {@code ""}
+ * @param fillerValue defaults to {@code ""}. Written in place of null values.
+ * @param valueFormatters defaults to {@code ValueFormatters.defaults()}
  */
 @Builder
 public record CustomizableWritingOptions(Character delimiter,
@@ -25,7 +26,8 @@ public record CustomizableWritingOptions(Character delimiter,
                                          Character quoteCharacter,
                                          Charset charset,
                                          String lineEnder,
-                                         String fillerValue) implements CsvWritingOptions {
+                                         String fillerValue,
+                                         ValueFormatters valueFormatters) implements CsvWritingOptions {
 
     public CustomizableWritingOptions {
         if (isNull(delimiter)) {
@@ -46,6 +48,9 @@ public record CustomizableWritingOptions(Character delimiter,
         if (isNull(fillerValue)) {
             fillerValue = StringUtils.EMPTY;
         }
+        if (isNull(valueFormatters)) {
+            valueFormatters = ValueFormatters.defaults();
+        }
     }
 
     public static CustomizableWritingOptions allDefaults() {
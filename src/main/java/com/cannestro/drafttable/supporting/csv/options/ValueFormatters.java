@@ -0,0 +1,85 @@
+package com.cannestro.drafttable.supporting.csv.options;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> An immutable set of per-type functions turning values into their exported text. A value is formatted by the
+ * function registered for its exact class if there is one, otherwise by the first one registered for a supertype, and
+ * otherwise by its {@code toString()}. For example:
+ * <pre>{@code
+ * ValueFormatters formatters = ValueFormatters.defaults()
+ *         .with(Double.class, value -> String.format("%.2f", value))
+ *         .with(TemporalAccessor.class, DateTimeFormatter.ISO_LOCAL_DATE::format);
+ * }</pre>
+ * </p>
+ */
+public final class ValueFormatters {
+
+    private static final ValueFormatters DEFAULTS = new ValueFormatters(Map.of());
+
+    private final Map<Class<?>, Function<Object, String>> registeredFormatters;
+    private final Map<Class<?>, Function<Object, String>> resolvedFormatters = new ConcurrentHashMap<>();
+
+
+    private ValueFormatters(Map<Class<?>, Function<Object, String>> registeredFormatters) {
+        this.registeredFormatters = registeredFormatters;
+    }
+
+    /**
+     * @return The formatters writing every value through its {@code toString()}
+     */
+    public static ValueFormatters defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: A copy of these formatters in which values of the provided type, or of any of its subtypes
+     *                       lacking a formatter of their own, are formatted by the provided function. </p>
+     *
+     * @param type A non-null class
+     * @param formatter A function producing the text of a non-null value
+     * @return A new {@code ValueFormatters}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ValueFormatters with(@NonNull Class<T> type, @NonNull Function<? super T, String> formatter) {
+        if (isNull(type) || isNull(formatter)) {
+            throw new IllegalArgumentException("Cannot register a null type or formatter");
+        }
+        Map<Class<?>, Function<Object, String>> formatters = new LinkedHashMap<>(registeredFormatters);
+        formatters.put(type, value -> formatter.apply((T) value));
+        return new ValueFormatters(formatters);
+    }
+
+    /**
+     * @param value Any object
+     * @return The text of the value, or null if the value is null
+     */
+    public @Nullable String format(@Nullable Object value) {
+        if (isNull(value)) {
+            return null;
+        }
+        return resolvedFormatters.computeIfAbsent(value.getClass(), this::resolve).apply(value);
+    }
+
+    private Function<Object, String> resolve(Class<?> type) {
+        Function<Object, String> formatter = registeredFormatters.get(type);
+        if (!isNull(formatter)) {
+            return formatter;
+        }
+        return registeredFormatters.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(type))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(Object::toString);
+    }
+
+}
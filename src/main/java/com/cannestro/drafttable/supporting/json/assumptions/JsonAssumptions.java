@@ -12,6 +12,7 @@ import static com.cannestro.drafttable.supporting.options.SupportedExtension.*;
 public class JsonAssumptions {
 
     public static final List<SupportedExtension> SUPPORTED_EXTENSIONS = List.of(JSON, GEOJSON);
+    public static final List<SupportedExtension> SUPPORTED_LINES_EXTENSIONS = List.of(JSONL, NDJSON);
 
 
     private JsonAssumptions() {}
@@ -26,4 +27,11 @@ public class JsonAssumptions {
         }
     }
 
+    public static void assumeFilenameIsJsonLinesCompatible(@NonNull String filename) {
+        SupportedExtension extension = SupportedExtension.valueOf(FilenameUtils.getExtension(filename).toUpperCase());
+        if (!SUPPORTED_LINES_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException(String.format("Assumption broken - The input did not end with a supported JSON Lines extension - [%s] not in %s", extension, SUPPORTED_LINES_EXTENSIONS));
+        }
+    }
+
 }
@@ -0,0 +1,170 @@
+package com.cannestro.drafttable.supporting.json.implementation;
+
+import com.cannestro.drafttable.supporting.json.ObjectMapperManager;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonEncoding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ * <p> Writes columnar data as a JSON array of objects, or as JSON Lines of objects, one per row, through Jackson's
+ * streaming {@code JsonGenerator}. Each object is emitted straight from the column values, so no intermediate map is
+ * built per row. Field names are encoded once and reused for every row. </p>
+ */
+@Slf4j
+public class JsonDataWriter {
+
+    public static final int FLUSH_BATCH_SIZE = 1 << 12;
+    private static final String LINE_SEPARATOR = "\n";
+
+
+    private JsonDataWriter() {}
+
+    /**
+     * <p><b>Requires</b>: The names align positionally with the columns, which are of equal sizes and ideally have
+     *                     random access. </p>
+     * <p><b>Guarantees</b>: The destination holds a JSON array of one object per row, in row order, whose fields
+     *                       follow the order of the names. Will create a new file, if necessary, otherwise the
+     *                       existing file will be overwritten. </p>
+     *
+     * @param file The destination file
+     * @param names The field names
+     * @param columnValues The values of every column
+     */
+    public static void writeColumnsToJson(@NonNull File file,
+                                          @NonNull List<String> names,
+                                          @NonNull List<? extends List<?>> columnValues) {
+        log.debug("Attempting streaming JSON export to: {}", file.getName());
+        try (JsonGenerator generator = ObjectMapperManager.getInstance().defaultMapper().createGenerator(file, JsonEncoding.UTF8)) {
+            writeColumns(generator, names, columnValues);
+        }
+        log.debug("Successfully completed streaming JSON export to: {}", file.getAbsolutePath());
+    }
+
+    /**
+     * <p><b>Requires</b>: The names align positionally with the columns, which are of equal sizes and ideally have
+     *                     random access. </p>
+     * <p><b>Guarantees</b>: The destination holds one compact JSON object per row, in row order, each on its own
+     *                       line terminated by a line feed (JSON Lines, a.k.a. NDJSON). Will create a new file, if
+     *                       necessary, otherwise the existing file will be overwritten. </p>
+     *
+     * @param file The destination file
+     * @param names The field names
+     * @param columnValues The values of every column
+     */
+    public static void writeColumnsToJsonLines(@NonNull File file,
+                                               @NonNull List<String> names,
+                                               @NonNull List<? extends List<?>> columnValues) {
+        log.debug("Attempting streaming JSON Lines export to: {}", file.getName());
+        ObjectWriter lineWriter = ObjectMapperManager.getInstance().defaultMapper()
+                .writer()
+                .withRootValueSeparator(LINE_SEPARATOR);
+        try (JsonGenerator generator = lineWriter.createGenerator(file, JsonEncoding.UTF8)) {
+            SerializableString[] fieldNames = fieldNamesOf(names);
+            int rowCount = rowCountOf(columnValues);
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                writeRow(generator, fieldNames, columnValues, rowIndex);
+                if ((rowIndex + 1) % FLUSH_BATCH_SIZE == 0) {
+                    generator.flush();
+                }
+            }
+            if (rowCount > 0) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
+            generator.flush();
+        }
+        log.debug("Successfully completed streaming JSON Lines export to: {}", file.getAbsolutePath());
+    }
+
+    /**
+     * @param names The field names
+     * @param columnValues The values of every column
+     * @return A compact JSON array of one object per row
+     * @see #writeColumnsToJson(File, List, List)
+     */
+    public static String writeColumnsToJsonString(@NonNull List<String> names, @NonNull List<? extends List<?>> columnValues) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = ObjectMapperManager.getInstance().defaultMapper().createGenerator(writer)) {
+            writeColumns(generator, names, columnValues);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The array is written to the generator, which is flushed after every batch of
+     *                       {@code FLUSH_BATCH_SIZE} rows and at the end. The generator is left open. </p>
+     *
+     * @param generator A generator created by an {@code ObjectMapper}, so that arbitrary values can be serialized
+     * @param names The field names
+     * @param columnValues The values of every column
+     */
+    public static void writeColumns(@NonNull JsonGenerator generator,
+                                    @NonNull List<String> names,
+                                    @NonNull List<? extends List<?>> columnValues) {
+        SerializableString[] fieldNames = fieldNamesOf(names);
+        int rowCount = rowCountOf(columnValues);
+        generator.writeStartArray();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            writeRow(generator, fieldNames, columnValues, rowIndex);
+            if ((rowIndex + 1) % FLUSH_BATCH_SIZE == 0) {
+                generator.flush();
+            }
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private static void writeRow(JsonGenerator generator,
+                                 SerializableString[] fieldNames,
+                                 List<? extends List<?>> columnValues,
+                                 int rowIndex) {
+        generator.writeStartObject();
+        for (int columnIndex = 0; columnIndex < fieldNames.length; columnIndex++) {
+            generator.writeName(fieldNames[columnIndex]);
+            writeValue(generator, columnValues.get(columnIndex).get(rowIndex));
+        }
+        generator.writeEndObject();
+    }
+
+    private static SerializableString[] fieldNamesOf(List<String> names) {
+        return names.stream().map(SerializedString::new).toArray(SerializableString[]::new);
+    }
+
+    private static int rowCountOf(List<? extends List<?>> columnValues) {
+        return columnValues.isEmpty() ? 0 : columnValues.get(0).size();
+    }
+
+    /**
+     * Writes the most common value types through the generator's dedicated methods, and any other value through
+     * data binding.
+     */
+    static void writeValue(JsonGenerator generator, @Nullable Object value) {
+        if (isNull(value)) {
+            generator.writeNull();
+        } else if (value instanceof String string) {
+            generator.writeString(string);
+        } else if (value instanceof Integer integer) {
+            generator.writeNumber(integer);
+        } else if (value instanceof Long longValue) {
+            generator.writeNumber(longValue);
+        } else if (value instanceof Double doubleValue) {
+            generator.writeNumber(doubleValue);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else {
+            generator.writePOJO(value);
+        }
+    }
+
+}
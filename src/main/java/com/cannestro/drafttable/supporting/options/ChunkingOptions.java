@@ -9,15 +9,27 @@ import java.io.File;
 import static java.util.Objects.isNull;
 
 
+/**
+ *
+ * @param limitPerChunk defaults to the row count divided by the target minimum number of chunks
+ * @param targetMinimumChunks defaults to {@code 1}
+ * @param parentDirectory the directory of the chunks and of their manifest
+ * @param chunkRootName defaults to {@code "chunk"}
+ * @param extension the format of the chunks
+ * @param parallelOptions defaults to {@code ParallelOptions.allDefaults()}. Chunks are written concurrently on its
+ *                        pool.
+ */
 @Builder
 public record ChunkingOptions(Integer limitPerChunk,
                               Integer targetMinimumChunks,
                               @NonNull File parentDirectory,
                               String chunkRootName,
-                              @NonNull SupportedExtension extension) {
+                              @NonNull SupportedExtension extension,
+                              ParallelOptions parallelOptions) {
 
     public static final String DEFAULT_NAME = "chunk";
     public static final String CHUNK_FORMAT = "%s%s%s_%d.%s";
+    public static final String MANIFEST_FORMAT = "%s%s%s_manifest.json";
 
 
     public ChunkingOptions {
@@ -32,6 +44,9 @@ public record ChunkingOptions(Integer limitPerChunk,
         if (StringUtils.isBlank(chunkRootName)) {
             chunkRootName = DEFAULT_NAME;
         }
+        if (isNull(parallelOptions)) {
+            parallelOptions = ParallelOptions.allDefaults();
+        }
     }
 
     public String constructFilenameForChunk(int chunkId) {
@@ -47,4 +62,12 @@ public record ChunkingOptions(Integer limitPerChunk,
         );
     }
 
+    public String constructFilenameForManifest() {
+        return String.format(MANIFEST_FORMAT,
+                parentDirectory().getAbsolutePath(),
+                File.separator,
+                chunkRootName()
+        );
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.cannestro.drafttable.supporting.options;
+
+
+/**
+ * Determines what happens when a value, found after the inference sample, cannot be parsed as the inferred type.
+ */
+public enum FallbackPolicy {
+
+    WIDEN,      // Re-parse the column as the next wider type, e.g. INTEGER -> LONG -> DOUBLE -> STRING
+    NULL,       // Replace the offending value with null
+    FAIL        // Throw an IllegalArgumentException
+
+}
@@ -0,0 +1,94 @@
+package com.cannestro.drafttable.supporting.options;
+
+import lombok.AllArgsConstructor;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.function.Function;
+
+
+/**
+ * The value types that can be inferred from text, listed from the most to the least specific. {@code STRING} accepts
+ * any text and is always the last resort. Numbers written with a leading {@code +} or with leading zeros, e.g. zip codes
+ * such as {@code 00501}, are not numeric types since parsing them would lose the way they are written.
+ */
+@AllArgsConstructor
+public enum InferredType {
+
+    INTEGER(text -> Integer.valueOf(unlessIdentifier(text))),
+    LONG(text -> Long.valueOf(unlessIdentifier(text))),
+    DOUBLE(InferredType::parseDouble),
+    BOOLEAN(InferredType::parseBoolean),
+    LOCAL_DATE(LocalDate::parse),                 // ISO-8601, e.g. 2014-12-31
+    LOCAL_DATE_TIME(LocalDateTime::parse),        // ISO-8601, e.g. 2014-12-31T23:59:59
+    LOCAL_TIME(LocalTime::parse),                 // ISO-8601, e.g. 23:59:59
+    STRING(text -> text);
+
+    private final Function<String, Object> parser;
+
+
+    /**
+     * @param text Any non-null text
+     * @return The text parsed as this type
+     * @throws RuntimeException If the text is not a valid representation of this type
+     */
+    public Object parse(@NonNull String text) {
+        return parser.apply(text);
+    }
+
+    /**
+     * @param text Any non-null text
+     * @return True if and only if the text is a valid representation of this type
+     */
+    public boolean canParse(@NonNull String text) {
+        try {
+            parse(text);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return The next wider type able to represent every value of this type, i.e. {@code INTEGER} widens to
+     *         {@code LONG}, {@code LONG} widens to {@code DOUBLE} and every other type widens to {@code STRING}
+     */
+    public InferredType widened() {
+        return switch (this) {
+            case INTEGER -> LONG;
+            case LONG -> DOUBLE;
+            default -> STRING;
+        };
+    }
+
+    private static Object parseDouble(String text) {
+        char last = text.isEmpty() ? ' ' : Character.toLowerCase(text.charAt(text.length() - 1));
+        if (last == 'd' || last == 'f' || text.toLowerCase(Locale.ROOT).contains("x") || !text.strip().equals(text)) {
+            throw new NumberFormatException("Not a decimal number: " + text);
+        }
+        return Double.valueOf(unlessIdentifier(text));
+    }
+
+    /**
+     * @throws NumberFormatException If the text starts with a {@code +}, or with a zero followed by another digit
+     */
+    private static String unlessIdentifier(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        if (text.startsWith("+")
+                || text.length() > start + 1 && text.charAt(start) == '0' && Character.isDigit(text.charAt(start + 1))) {
+            throw new NumberFormatException("Not a plain number: " + text);
+        }
+        return text;
+    }
+
+    private static Object parseBoolean(String text) {
+        if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")) {
+            return Boolean.valueOf(text);
+        }
+        throw new IllegalArgumentException("Not a boolean: " + text);
+    }
+
+}
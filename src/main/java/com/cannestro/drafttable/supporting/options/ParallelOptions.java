@@ -0,0 +1,104 @@
+package com.cannestro.drafttable.supporting.options;
+
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ *
+ * @param pool defaults to {@code ForkJoinPool.commonPool()}
+ * @param parallelism defaults to the parallelism of the pool
+ * @param sequentialThreshold defaults to {@code 65536}. Inputs smaller than the threshold are processed on the calling
+ *                            thread. The unit is that of the partitioned input, e.g. bytes for file readers and rows
+ *                            for table operations.
+ */
+@Builder
+public record ParallelOptions(ForkJoinPool pool,
+                              Integer parallelism,
+                              Integer sequentialThreshold) {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+    public static final int MORSELS_PER_THREAD = 4;
+
+
+    public ParallelOptions {
+        if (isNull(pool)) {
+            pool = ForkJoinPool.commonPool();
+        }
+        if (isNull(parallelism)) {
+            parallelism = pool.getParallelism();
+        } else if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be a positive integer.");
+        }
+        if (isNull(sequentialThreshold)) {
+            sequentialThreshold = DEFAULT_SEQUENTIAL_THRESHOLD;
+        } else if (sequentialThreshold < 0) {
+            throw new IllegalArgumentException("The sequential threshold must be a non-negative integer.");
+        }
+    }
+
+    public static ParallelOptions allDefaults() {
+        return ParallelOptions.builder().build();
+    }
+
+    /**
+     * @param inputSize The size of the input to partition, in the unit of the sequential threshold
+     * @return True if and only if the input is large enough to be worth partitioning
+     */
+    public boolean shouldParallelize(long inputSize) {
+        return parallelism() > 1 && inputSize >= sequentialThreshold();
+    }
+
+    /**
+     * <p><b>Guarantees</b>: The bounds of contiguous ranges ("morsels") covering [0, size) in ascending order, which
+     *                       are non-empty unless the size is zero. There are several per thread so that threads
+     *                       finishing early can pick up more work. Range {@code i} spans [bounds[i], bounds[i + 1]).
+     *                       </p>
+     *
+     * @param size A non-negative integer
+     * @return An array of one more bound than there are ranges
+     */
+    public int[] partition(int size) {
+        int morselCount = (int) Math.max(1, Math.min(size, (long) parallelism() * MORSELS_PER_THREAD));
+        int[] bounds = new int[morselCount + 1];
+        for (int morsel = 0; morsel <= morselCount; morsel++) {
+            bounds[morsel] = (int) ((long) size * morsel / morselCount);
+        }
+        return bounds;
+    }
+
+    /**
+     * <p><b>Guarantees</b>: Every task has been run to completion on the pool. Results are returned in task order. An
+     *                       unchecked exception thrown by a task is rethrown as-is. </p>
+     *
+     * @param tasks Zero or more independent tasks
+     * @return The result of each task
+     * @param <T> The result type of the tasks
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : pool().invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+}
@@ -9,6 +9,8 @@ public enum SupportedExtension {
     CSV("csv"),
     GEOJSON("geojson"),
     JSON("json"),
+    JSONL("jsonl"),
+    NDJSON("ndjson"),
     TSV("tsv"),
     TXT("txt");
 
@@ -0,0 +1,62 @@
+package com.cannestro.drafttable.supporting.options;
+
+import lombok.Builder;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+
+/**
+ *
+ * @param sampleSize defaults to {@code 1000}. The number of leading non-null values of each column used to choose
+ *                   its type.
+ * @param candidateTypes defaults to every {@code InferredType}. {@code STRING} is always a candidate.
+ * @param fallbackPolicy defaults to {@code FallbackPolicy.WIDEN}
+ * @param nullTokens defaults to the empty string. Values equal to a token become null in typed columns.
+ * @param dictionaryEncodingRatio defaults to {@code 0.5}. Text columns whose distinct values number at most this
+ *                                fraction of their non-null values are dictionary-encoded. Zero disables the encoding.
+ */
+@Builder
+public record TypeInferenceOptions(Integer sampleSize,
+                                   Set<InferredType> candidateTypes,
+                                   FallbackPolicy fallbackPolicy,
+                                   Set<String> nullTokens,
+                                   Double dictionaryEncodingRatio) {
+
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+    public static final double DEFAULT_DICTIONARY_ENCODING_RATIO = 0.5;
+
+
+    public TypeInferenceOptions {
+        if (isNull(sampleSize)) {
+            sampleSize = DEFAULT_SAMPLE_SIZE;
+        } else if (sampleSize < 1) {
+            throw new IllegalArgumentException("The sample size must be a positive integer.");
+        }
+        if (isNull(candidateTypes)) {
+            candidateTypes = EnumSet.allOf(InferredType.class);
+        } else {
+            candidateTypes = EnumSet.copyOf(candidateTypes.isEmpty() ? Set.of(InferredType.STRING) : candidateTypes);
+            candidateTypes.add(InferredType.STRING);
+        }
+        candidateTypes = Set.copyOf(candidateTypes);
+        if (isNull(fallbackPolicy)) {
+            fallbackPolicy = FallbackPolicy.WIDEN;
+        }
+        if (isNull(nullTokens)) {
+            nullTokens = Set.of("");
+        }
+        if (isNull(dictionaryEncodingRatio)) {
+            dictionaryEncodingRatio = DEFAULT_DICTIONARY_ENCODING_RATIO;
+        } else if (dictionaryEncodingRatio < 0 || dictionaryEncodingRatio > 1) {
+            throw new IllegalArgumentException("The dictionary encoding ratio must lie within [0, 1].");
+        }
+    }
+
+    public static TypeInferenceOptions allDefaults() {
+        return TypeInferenceOptions.builder().build();
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.cannestro.drafttable.supporting.options;
+
+
+/**
+ * Determines how thoroughly the assumptions whose cost grows with the size of the input, such as the bounds and
+ * uniqueness of row indices or the key sets of rows, are checked.
+ */
+public enum ValidationMode {
+
+    STRICT,     // Check every element
+    SAMPLED,    // Check an evenly spaced sample of at most DraftTableAssumptions.VALIDATION_SAMPLE_SIZE elements
+    TRUSTED     // Skip the check, since the input is already known to be valid
+
+}
@@ -5,6 +5,7 @@ import com.cannestro.drafttable.core.tables.DraftTable;
 import com.cannestro.drafttable.core.columns.FlexibleColumn;
 import com.cannestro.drafttable.helper.BareBonesPojo;
 import com.cannestro.drafttable.helper.PayDetails;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -12,7 +13,9 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.isNull;
@@ -33,6 +36,23 @@ public class FlexibleColumnGroupingTest {
                 .forEach(count -> Assert.assertEquals(count, 1L));
     }
 
+    @Test
+    public void parallelGroupingMatchesSequentialGrouping() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Column column = FlexibleColumn.from("ints", IntStream.range(0, 1000).map(i -> i % 7).boxed().toList());
+            ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).sequentialThreshold(1).build();
+
+            DraftTable parallel = column.group().inParallel(parallelOptions).byValuesUsing(Collectors.summingInt((Integer i) -> i));
+            DraftTable sequential = column.group().byValuesUsing(Collectors.summingInt((Integer i) -> i));
+
+            Assert.assertEquals(parallel.rowCount(), 7);
+            Assert.assertEquals(parallel.columns(), sequential.columns());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test(description = "Value count of mutable Data class counts by value as desired instead of by object reference")
     public void mutableValueCountTest() {
         Column column = FlexibleColumn.from("pay", List.of(
@@ -188,6 +208,24 @@ public class FlexibleColumnGroupingTest {
         Assert.assertEquals(grouping.where(ColumnGrouping.VALUE, nullValue()).select(ColumnGrouping.COUNT).firstValue().get(), 2L);
     }
 
+    @Test
+    public void byCountsOfAppliesTheMappingOncePerNonNullValue() {
+        Column column = FlexibleColumn.from("pay", List.of(
+                new PayDetails("Hourly", null, null, null),
+                new PayDetails(null, null, null, null),
+                new PayDetails("Salary", null, null, null)
+        )).append((PayDetails) null);
+        List<PayDetails> mapped = new ArrayList<>();
+
+        DraftTable grouping = column.group().byCountsOf((PayDetails pay) -> {
+            mapped.add(pay);
+            return pay.getType();
+        });
+
+        Assert.assertEquals(mapped.size(), 3);
+        Assert.assertEquals(grouping.where(ColumnGrouping.VALUE, nullValue()).select(ColumnGrouping.COUNT).firstValue().get(), 2L);
+    }
+
     @Test
     public void byUserDefinedFunctionAndAggregateTruncatesNulls() {
         Column column = FlexibleColumn.from("pay", List.of(
@@ -0,0 +1,63 @@
+package com.cannestro.drafttable.core.assumptions;
+
+import com.cannestro.drafttable.core.columns.IntColumn;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ValidationMode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.core.assumptions.DraftTableAssumptions.*;
+import static org.testng.Assert.*;
+
+
+@Test(groups = {"component"})
+public class DraftTableAssumptionsTest {
+
+    private static final DraftTable TABLE = FlexibleDraftTable.create().fromColumns(List.of(
+            IntColumn.from("n", IntStream.range(0, 5000).boxed().toList())
+    ));
+
+    @Test
+    public void strictValidationIsTheDefault() {
+        assertEquals(validationMode(), ValidationMode.STRICT);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void strictValidationFindsEveryDuplicateIndex() {
+        assumeIndicesBoundedByRowCount(indicesWithDuplicateAt(4999), TABLE);
+    }
+
+    @Test
+    public void sampledValidationOnlyChecksPartOfTheInput() {
+        List<Integer> indices = indicesWithDuplicateAt(4999);
+
+        withValidationMode(ValidationMode.SAMPLED, () -> {
+            assumeIndicesBoundedByRowCount(indices, TABLE);
+            return null;
+        });
+        assertThrows(IllegalArgumentException.class, () -> withValidationMode(ValidationMode.SAMPLED, () -> {
+            assumeIndicesBoundedByRowCount(List.of(-1, 1, 2), TABLE);
+            return null;
+        }));
+    }
+
+    @Test
+    public void trustedValidationSkipsTheCheckWithinItsScopeOnly() {
+        DraftTable firstRows = withValidationMode(ValidationMode.TRUSTED, () -> TABLE.where(List.of(0, 0, 1)));
+
+        assertEquals(firstRows.select("n").values(), List.of(0, 0, 1));
+        assertEquals(validationMode(), ValidationMode.STRICT);
+        assertThrows(IllegalArgumentException.class, () -> TABLE.where(List.of(0, 0, 1)));
+    }
+
+    private static List<Integer> indicesWithDuplicateAt(int position) {
+        List<Integer> indices = new ArrayList<>(IntStream.range(0, 5000).boxed().toList());
+        indices.set(position, 0);
+        return indices;
+    }
+
+}
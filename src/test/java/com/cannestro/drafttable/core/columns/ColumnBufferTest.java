@@ -0,0 +1,53 @@
+package com.cannestro.drafttable.core.columns;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+
+@Test(groups = {"component"})
+public class ColumnBufferTest {
+
+    @Test
+    public void releasingHandsTheValuesOverAndEmptiesTheBuffer() {
+        ColumnBuffer buffer = new ColumnBuffer();
+        Arrays.asList("a", null, "c").forEach(buffer::add);
+
+        List<Object> released = buffer.release();
+
+        assertEquals(released, Arrays.asList("a", null, "c"));
+        assertTrue(buffer.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> released.add("d"));
+    }
+
+    @Test
+    public void refillingAReleasedBufferLeavesTheReleasedValuesUntouched() {
+        ColumnBuffer buffer = new ColumnBuffer(2);
+        buffer.add(1);
+        buffer.add(2);
+        Column column = buffer.toColumn("numbers");
+
+        buffer.add(3);
+
+        assertEquals(column.values(), List.of(1, 2));
+        assertEquals(buffer.values(), List.of(3));
+    }
+
+    @Test
+    public void mergingIntoAPresizedBufferKeepsTheOrder() {
+        ColumnBuffer first = new ColumnBuffer();
+        ColumnBuffer second = new ColumnBuffer();
+        first.add("a");
+        second.add("b");
+        second.add("c");
+
+        first.ensureCapacity(first.size() + second.size());
+        first.addAll(second);
+
+        assertEquals(first.values(), List.of("a", "b", "c"));
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.aggregations.Aggregation;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.cannestro.drafttable.core.options.SortingOrderType.ASCENDING;
+import static com.cannestro.drafttable.core.options.SortingOrderType.DESCENDING;
+import static org.hamcrest.Matchers.*;
+
+
+@Test(groups = {"component"})
+public class DictionaryColumnTest {
+
+    private static final List<String> STATES = Arrays.asList("TX", "MO", null, "TX", "IL", "MO", "TX");
+
+    @Test
+    public void distinctValuesAreStoredOnce() {
+        DictionaryColumn column = DictionaryColumn.from("State", STATES);
+
+        Assert.assertEquals(column.cardinality(), 3);
+        Assert.assertEquals(column.values(), STATES);
+        Assert.assertEquals(column.codeAt(3), column.codeOf("TX"));
+        Assert.assertEquals(column.codeAt(2), DictionaryColumn.NULL_CODE);
+        Assert.assertEquals(column.nullCount(), 1);
+    }
+
+    @Test
+    public void matchersAreEvaluatedOncePerDistinctValue() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Matcher<Object> countingMatcher = new BaseMatcher<>() {
+            @Override
+            public boolean matches(Object actual) {
+                evaluations.incrementAndGet();
+                return "TX".equals(actual) || "IL".equals(actual);
+            }
+
+            @Override
+            public void describeTo(Description description) {}
+        };
+
+        Column matches = DictionaryColumn.from("State", STATES).where(countingMatcher);
+
+        Assert.assertEquals(matches.values(), List.of("TX", "TX", "IL", "TX"));
+        Assert.assertEquals(evaluations.get(), 4);
+    }
+
+    @Test
+    public void tableFiltersEvaluateMatchersOncePerDistinctValue() {
+        AtomicInteger evaluations = new AtomicInteger();
+        DraftTable dt = FlexibleDraftTable.create().fromColumns(List.of(
+                DictionaryColumn.from("State", STATES),
+                new FlexibleColumn("Rank", List.of(1, 2, 3, 4, 5, 6, 7))
+        ));
+
+        DraftTable matches = dt.where("State", (String state) -> {
+            evaluations.incrementAndGet();
+            return state;
+        }, is("MO"));
+
+        Assert.assertEquals(matches.select("Rank").values(), List.of(2, 6));
+        Assert.assertEquals(evaluations.get(), 4);
+    }
+
+    @Test
+    public void filtersMatchThoseOfAFlexibleColumn() {
+        Column encoded = DictionaryColumn.from("State", STATES);
+        Column plain = new FlexibleColumn("State", STATES);
+
+        Assert.assertEquals(encoded, plain);
+        Assert.assertEquals(encoded.hashCode(), plain.hashCode());
+        Assert.assertEquals(encoded.where(in(new String[]{"MO", "IL"})), plain.where(in(new String[]{"MO", "IL"})));
+        Assert.assertEquals(encoded.where(nullValue()).size(), 1);
+        Assert.assertEquals(encoded.dropNulls().where(String::length, is(2)).size(), 6);
+        Assert.assertTrue(encoded.has("IL"));
+        Assert.assertFalse(encoded.where(is("TX")).has("IL"));
+    }
+
+    @Test
+    public void sortingFollowsNaturalOrderOfTheValues() {
+        Column column = DictionaryColumn.from("State", STATES);
+
+        Assert.assertEquals(column.orderBy(ASCENDING).values(), Arrays.asList(null, "IL", "MO", "MO", "TX", "TX", "TX"));
+        Assert.assertEquals(column.orderBy(DESCENDING).values(), Arrays.asList("TX", "TX", "TX", "MO", "MO", "IL", null));
+        Assert.assertEquals(column.topBy(ASCENDING, 3).values(), Arrays.asList(null, "IL", "MO"));
+    }
+
+    @Test
+    public void valueCountsMatchThoseOfAFlexibleColumn() {
+        DraftTable encoded = DictionaryColumn.from("State", STATES).group().byValueCounts(DESCENDING);
+        DraftTable plain = new FlexibleColumn("State", STATES).group().byValueCounts(DESCENDING);
+
+        Assert.assertEquals(encoded, plain);
+    }
+
+    @Test
+    public void tablesGroupByDictionaryEncodedKeys() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumns(List.of(
+                DictionaryColumn.from("State", STATES),
+                IntColumn.of("Injuries", 1, 2, 3, 4, 5, 6, 7)
+        ));
+
+        DraftTable sums = dt.groupBy("State").agg(Aggregation.sum("Injuries"));
+
+        Assert.assertEquals(sums.select("State").values(), Arrays.asList("TX", "MO", null, "IL"));
+        Assert.assertEquals(sums.select("sum(Injuries)").values(), List.of(12L, 8L, 3L, 5L));
+    }
+
+    @Test
+    public void appendingExtendsTheDictionary() {
+        Column column = DictionaryColumn.from("State", List.of("TX", "MO")).where(is("MO")).append(List.of("OH", "MO"));
+
+        Assert.assertTrue(column instanceof DictionaryColumn);
+        Assert.assertEquals(column.values(), List.of("MO", "OH", "MO"));
+    }
+
+    @Test
+    public void onlyRepetitiveTextIsEncoded() {
+        Assert.assertTrue(Columns.dictionaryEncodedIfCompact("State", STATES, 0.5) instanceof DictionaryColumn);
+        Assert.assertTrue(Columns.dictionaryEncodedIfCompact("State", STATES, 0.25) instanceof FlexibleColumn);
+        Assert.assertTrue(Columns.dictionaryEncodedIfCompact("n", List.of(1, 1, 1), 0.5) instanceof IntColumn);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void onlyStringsCanBeEncoded() {
+        DictionaryColumn.from("n", List.of(1, 2));
+    }
+
+}
@@ -196,6 +196,35 @@ public class FlexibleColumnTest {
         assertEquals(c.dropNulls().values(), emptyList());
     }
 
+    @Test
+    public void nullCountsCarryOverToSelections() {
+        List<String> values = IntStream.range(0, 150)
+                .mapToObj(idx -> idx % 3 == 0 ? null : String.valueOf(idx))
+                .toList();
+        Column c = new FlexibleColumn("data", values);
+
+        assertEquals(c.nullCount(), 50);
+        assertEquals(c.dropNulls().nullCount(), 0);
+        assertEquals(c.dropNulls().values(), values.stream().filter(Objects::nonNull).toList());
+        assertEquals(c.top(4).nullCount(), 2);
+        assertEquals(c.where(nullValue()).dataType(), Object.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void appendingMismatchedTypeToColumnWithNullsThrowsException() {
+        new FlexibleColumn("data", asList("a", null)).append(List.of(1));
+    }
+
+    @Test
+    public void derivedColumnsKeepTheElementType() {
+        Column c = new FlexibleColumn("data", asList(null, "b", "a"));
+
+        assertEquals(c.orderBy(SortingOrderType.ASCENDING).dataType(), String.class);
+        assertEquals(c.fillNullsWith("c").dataType(), String.class);
+        assertEquals(c.where(nullValue()).append("d").dataType(), String.class);
+        assertEquals(Columns.bestFitFor("data", asList(null, null)).dataType(), Object.class);
+    }
+
     @Test
     public void afterCallingDropNullsOnEmptyColumnThenAnEmptyColumnIsReturned() {
         Column c = new FlexibleColumn("data", emptyList());
@@ -0,0 +1,151 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.options.StatisticName;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.cannestro.drafttable.core.options.SortingOrderType.ASCENDING;
+import static com.cannestro.drafttable.core.options.SortingOrderType.DESCENDING;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.*;
+
+
+@Test(groups = {"component"})
+public class PrimitiveColumnTest {
+
+    @Test
+    public void bestFitChoosesPrimitiveColumnsForBoxedNumbers() {
+        assertTrue(Columns.bestFitFor("ints", asList(1, null, 3)) instanceof IntColumn);
+        assertTrue(Columns.bestFitFor("longs", asList(1L, 2L)) instanceof LongColumn);
+        assertTrue(Columns.bestFitFor("doubles", asList(1.5, 2.5)) instanceof DoubleColumn);
+        assertTrue(Columns.bestFitFor("strings", asList("a", "b")) instanceof FlexibleColumn);
+        assertTrue(Columns.bestFitFor("nulls", asList(null, null)) instanceof FlexibleColumn);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void bestFitStillRejectsMixedTypes() {
+        Columns.bestFitFor("mixed", asList(1, 2L));
+    }
+
+    @Test
+    public void columnsAreEqualByLabelAndValuesAcrossImplementations() {
+        Column primitive = IntColumn.from("data", asList(1, null, 3));
+        Column flexible = new FlexibleColumn("data", asList(1, null, 3));
+
+        assertEquals(primitive, flexible);
+        assertEquals(flexible, primitive);
+        assertEquals(primitive.hashCode(), flexible.hashCode());
+        assertNotEquals(primitive, flexible.renameAs("other"));
+    }
+
+    @Test
+    public void valuesAreBoxedWithNullsPreserved() {
+        Column c = IntColumn.from("data", asList(1, null, 3));
+
+        assertEquals(c.dataType(), Integer.class);
+        assertEquals(c.values(), asList(1, null, 3));
+        assertTrue(c.hasNulls());
+        assertEquals(c.size(), 3);
+    }
+
+    @Test
+    public void whereKeepsThePrimitiveRepresentation() {
+        Column c = DoubleColumn.of("data", 0.25, 0.75, 0.5, 0.9).where(greaterThan(0.5));
+
+        assertTrue(c instanceof DoubleColumn);
+        assertEquals(c.values(), asList(0.75, 0.9));
+    }
+
+    @Test
+    public void orderingPlacesNullsFirstWhenAscendingAndLastWhenDescending() {
+        Column c = LongColumn.from("data", asList(3L, null, 1L, 2L));
+
+        assertEquals(c.orderBy(ASCENDING).values(), asList(null, 1L, 2L, 3L));
+        assertEquals(c.orderBy(DESCENDING).values(), asList(3L, 2L, 1L, null));
+    }
+
+    @Test
+    public void parallelOrderingMatchesSequentialOrdering() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Column c = DoubleColumn.from("data", IntStream.range(0, 5000).mapToObj(idx -> idx % 11 == 0 ? null : (idx * 7919 % 1000) / 10.0).toList());
+            ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).sequentialThreshold(1).build();
+
+            assertEquals(c.orderBy(ASCENDING, parallelOptions).values(), c.orderBy(ASCENDING).values());
+            assertEquals(c.orderBy(DESCENDING, parallelOptions).values(), c.orderBy(DESCENDING).values());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void topByKeepsTheFirstValuesInOrder() {
+        Column c = IntColumn.from("data", asList(5, null, 9, 1, 9, 3));
+
+        assertEquals(c.topBy(DESCENDING, 3).values(), asList(9, 9, 5));
+        assertEquals(c.topBy(ASCENDING, 2).values(), asList(null, 1));
+        assertEquals(c.topBy(ASCENDING, 0).values(), List.of());
+    }
+
+    @Test
+    public void appendingCompatibleValuesKeepsThePrimitiveRepresentation() {
+        Column c = IntColumn.of("data", 1, 2).append(3).append(IntColumn.from("other", asList(4, null)));
+
+        assertTrue(c instanceof IntColumn);
+        assertEquals(c.values(), asList(1, 2, 3, 4, null));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void appendingMismatchedTypeThrowsException() {
+        IntColumn.of("data", 1, 2).append("three");
+    }
+
+    @Test
+    public void nullsCanBeDroppedOrFilled() {
+        List<Integer> list = new ArrayList<>(asList(1, 2));
+        list.add(null);
+        Column c = IntColumn.from("data", list);
+
+        assertEquals(c.dropNulls().values(), asList(1, 2));
+        assertEquals(c.fillNullsWith(0).values(), asList(1, 2, 0));
+        assertFalse(c.dropNulls().hasNulls());
+    }
+
+    @Test
+    public void aggregationsAndTransformationsWorkThroughBoxedValues() {
+        Column c = IntColumn.of("data", 1, 2, 3, 4);
+
+        assertEquals(c.aggregate(0, Integer::sum), Integer.valueOf(10));
+        assertThat(c.transform((Integer x) -> x * 0.5).values(), contains(0.5, 1.0, 1.5, 2.0));
+        assertTrue(c.transform((Integer x) -> x * 0.5) instanceof DoubleColumn);
+    }
+
+    @Test
+    public void descriptiveStatsSkipNulls() {
+        Column c = DoubleColumn.from("data", asList(1.0, null, 3.0));
+
+        assertEquals(c.descriptiveStats().get(StatisticName.N), 2L);
+        assertEquals(c.descriptiveStats().get(StatisticName.MEAN), 2.0);
+    }
+
+    @Test
+    public void tablesBuiltFromValuesUsePrimitiveColumns() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                List.of("ints", "names"),
+                List.of(List.of(1, 2, 3), List.of("a", "b", "c"))
+        );
+
+        assertTrue(dt.select("ints") instanceof IntColumn);
+        assertEquals(dt.where("ints", greaterThan(1)).select("names").values(), List.of("b", "c"));
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.cannestro.drafttable.core.columns;
+
+import com.cannestro.drafttable.core.assumptions.DraftTableAssumptions;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.options.ValidationMode;
+import org.testng.annotations.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.*;
+
+
+@Test(groups = {"component"})
+public class SelectionVectorTest {
+
+    @Test
+    public void matchingSelectsPositionsInAscendingOrder() {
+        SelectionVector selection = SelectionVector.matching(6, idx -> idx % 2 == 0);
+
+        assertEquals(selection.asList(), List.of(0, 2, 4));
+        assertEquals(selection, SelectionVector.of(0, 2, 4));
+    }
+
+    @Test
+    public void composingAppliesTheOuterSelectionFirst() {
+        SelectionVector outer = SelectionVector.of(1, 3, 5, 7);
+        SelectionVector inner = SelectionVector.of(0, 2);
+
+        assertEquals(outer.compose(inner), SelectionVector.of(1, 5));
+    }
+
+    @Test
+    public void sortingIsStableAcrossMergedRuns() {
+        int[] keys = IntStream.range(0, 1000).map(idx -> (idx * 37) % 10).toArray();
+
+        SelectionVector sorted = SelectionVector.sorted(keys.length, (idx, other) -> Integer.compare(keys[idx], keys[other]));
+
+        List<Integer> expected = IntStream.range(0, 1000).boxed()
+                .sorted(Comparator.comparingInt((Integer idx) -> keys[idx]))
+                .toList();
+        assertEquals(sorted.asList(), expected);
+    }
+
+    @Test
+    public void parallelSortingMatchesSequentialSorting() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int size : new int[]{0, 1, 7, 1001, 20_000}) {
+                int[] keys = IntStream.range(0, size).map(idx -> (idx * 7919) % 13).toArray();
+                IntBinaryOperator comparator = (idx, other) -> Integer.compare(keys[idx], keys[other]);
+
+                assertEquals(
+                        SelectionVector.sorted(size, comparator, ParallelOptions.builder().pool(pool).sequentialThreshold(1).build()),
+                        SelectionVector.sorted(size, comparator)
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void outOfBoundsSelectionThrowsException() {
+        new FlexibleColumn("data", List.of("a", "b")).where(SelectionVector.of(2));
+    }
+
+    @Test
+    public void boundsAreCheckedOncePerSelectionUnlessTrusted() {
+        SelectionVector selection = SelectionVector.of(1, 0);
+        selection.checkBoundedBy(2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> selection.checkBoundedBy(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> SelectionVector.of(-1).checkBoundedBy(2));
+        DraftTableAssumptions.withValidationMode(ValidationMode.TRUSTED, () -> {
+            selection.checkBoundedBy(1);
+            return null;
+        });
+    }
+
+    @Test
+    public void chainedFiltersOnFlexibleColumnsMatchEagerFiltering() {
+        Column column = new FlexibleColumn("data", List.of("a", "bb", "ccc", "dddd", "eeeee"));
+        Column chained = column.where(SelectionVector.range(1, 5)).where(SelectionVector.of(0, 2));
+
+        assertEquals(chained, new FlexibleColumn("data", List.of("bb", "dddd")));
+        assertEquals(chained.where(hasLength(2)).values(), List.of("bb"));
+    }
+
+    @Test
+    public void emptyOrAllNullSelectionsOfFlexibleColumnsHaveObjectType() {
+        Column column = new FlexibleColumn("data", asList("a", null, "c"));
+
+        assertEquals(column.where(SelectionVector.of()).dataType(), Object.class);
+        assertEquals(column.where(SelectionVector.of(1)), new FlexibleColumn("data", asList((Object) null)));
+    }
+
+    @Test
+    public void chainedFiltersOnPrimitiveColumnsKeepNulls() {
+        IntColumn column = IntColumn.from("data", asList(5, null, 3, null, 1));
+        Column chained = column.where(SelectionVector.of(1, 2, 3)).where(SelectionVector.of(0, 1));
+
+        assertTrue(chained instanceof IntColumn);
+        assertEquals(chained.values(), asList(null, 3));
+        assertTrue(chained.hasNulls());
+        assertEquals(((IntColumn) chained).nullCount(), 1);
+        assertEquals(chained.append(7).values(), asList(null, 3, 7));
+    }
+
+    @Test
+    public void chainedTableFiltersShareTheParentStorage() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                List.of("ints", "names"),
+                List.of(List.of(1, 2, 3, 4, 5), List.of("a", "b", "c", "d", "e"))
+        );
+        DraftTable filtered = dt.where("ints", greaterThan(1))
+                .where("ints", lessThan(5))
+                .where("names", not(equalTo("c")));
+
+        assertEquals(filtered.select("ints").values(), List.of(2, 4));
+        assertEquals(filtered.select("names").values(), List.of("b", "d"));
+        assertEquals(filtered.where(List.of(1)).select("names").values(), List.of("d"));
+    }
+
+}
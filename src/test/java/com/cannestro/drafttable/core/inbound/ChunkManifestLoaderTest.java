@@ -0,0 +1,145 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.outbound.ChunkManifest;
+import com.cannestro.drafttable.core.rows.Mappable;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ChunkingOptions;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.options.SupportedExtension;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+
+@Test(groups = {"component"})
+public class ChunkManifestLoaderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).build();
+    private final DraftTable payments = FlexibleDraftTable.create().fromObjects(
+            "payments",
+            IntStream.range(0, 10).mapToObj(idx -> new Payment(idx % 2 == 0 ? "Hourly" : "Salary", idx)).toList()
+    );
+    private File directory;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("chunks").toFile();
+    }
+
+    @Test
+    public void csvChunksAreWrittenFromTheFirstRowToTheLast() {
+        ChunkingOptions options = chunkingOptions("csv_payments", SupportedExtension.CSV);
+
+        ChunkManifest manifest = payments.write().toCsv(options);
+
+        Assert.assertEquals(manifest.rowCount(), 10);
+        Assert.assertEquals(manifest.chunks().stream().map(ChunkManifest.Chunk::rowCount).toList(), List.of(4, 4, 2));
+        Assert.assertEquals(manifest.chunks().get(0).fileName(), "csv_payments_0.csv");
+        Assert.assertEquals(manifest.chunks().get(2).byteSize(), new File(options.constructFilenameForChunk(2)).length());
+        Assert.assertEquals(ChunkManifest.readFrom(new File(options.constructFilenameForManifest())), manifest);
+    }
+
+    @Test
+    public void csvChunksAreLoadedBackIntoOneTable() {
+        ChunkingOptions options = chunkingOptions("csv_reloaded", SupportedExtension.CSV);
+        payments.write().toCsv(options);
+
+        DraftTable reloaded = new ChunkManifestLoader(parallelOptions).at(Path.of(options.constructFilenameForManifest()));
+
+        Assert.assertEquals(reloaded.tableName(), "payments");
+        Assert.assertEquals(reloaded.columnNames(), payments.columnNames());
+        Assert.assertEquals(reloaded.select("type").values(), payments.select("type").values());
+        Assert.assertEquals(
+                reloaded.select("workHours").values(),
+                payments.select("workHours").values().stream().map(String::valueOf).toList()
+        );
+    }
+
+    @Test
+    public void jsonChunksAreLoadedBackIntoOneTable() {
+        ChunkingOptions options = chunkingOptions("json_reloaded", SupportedExtension.JSON);
+        payments.write().toJson(options);
+
+        DraftTable reloaded = new ChunkManifestLoader(parallelOptions)
+                .at(Path.of(options.constructFilenameForManifest()), Payment.class);
+
+        Assert.assertEquals(reloaded.rowCount(), 10);
+        Assert.assertEquals(reloaded.select("workHours").values(), payments.select("workHours").values());
+    }
+
+    @Test
+    public void aChunkThatCannotBeWrittenFailsTheExport() throws IOException {
+        File notADirectory = new File(directory, "not_a_directory");
+        Files.writeString(notADirectory.toPath(), "");
+        ChunkingOptions options = ChunkingOptions.builder()
+                .limitPerChunk(4)
+                .parentDirectory(notADirectory)
+                .chunkRootName("unwritable")
+                .extension(SupportedExtension.CSV)
+                .parallelOptions(parallelOptions)
+                .build();
+
+        Assert.assertThrows(UncheckedIOException.class, () -> payments.write().toCsv(options));
+        Assert.assertFalse(new File(options.constructFilenameForManifest()).exists());
+    }
+
+    @Test
+    public void chunksOutsideOfTheManifestDirectoryAreRejected() {
+        File manifestFile = new File(directory, "escaping_manifest.json");
+        for (String fileName : List.of("../outside.csv", "nested/../../outside.csv", new File(directory.getParentFile(), "outside.csv").getAbsolutePath())) {
+            new ChunkManifest(
+                    "escaping",
+                    SupportedExtension.CSV,
+                    List.of("type"),
+                    1,
+                    List.of(new ChunkManifest.Chunk(fileName, 1, 10))
+            ).writeTo(manifestFile);
+
+            IllegalArgumentException e = Assert.expectThrows(
+                    IllegalArgumentException.class,
+                    () -> new ChunkManifestLoader(parallelOptions).at(manifestFile.toPath())
+            );
+            Assert.assertTrue(e.getMessage().contains("outside of the manifest's directory"), e.getMessage());
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() throws IOException {
+        pool.shutdown();
+        FileUtils.deleteDirectory(directory);
+    }
+
+    private ChunkingOptions chunkingOptions(String rootName, SupportedExtension extension) {
+        return ChunkingOptions.builder()
+                .limitPerChunk(4)
+                .parentDirectory(directory)
+                .chunkRootName(rootName)
+                .extension(extension)
+                .parallelOptions(parallelOptions)
+                .build();
+    }
+
+    public record Payment(String type, Integer workHours) implements Mappable {
+
+        @Override
+        public Map<String, ?> asMap() {
+            return Map.of("type", type, "workHours", workHours);
+        }
+
+    }
+
+}
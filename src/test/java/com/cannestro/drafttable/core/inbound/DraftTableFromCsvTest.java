@@ -1,20 +1,33 @@
 package com.cannestro.drafttable.core.inbound;
 
+import com.cannestro.drafttable.core.columns.DictionaryColumn;
+import com.cannestro.drafttable.core.columns.DoubleColumn;
+import com.cannestro.drafttable.core.columns.IntColumn;
 import com.cannestro.drafttable.core.tables.DraftTable;
 import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
 import com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser;
+import com.cannestro.drafttable.supporting.csv.options.CustomizableParsingOptions;
 import com.cannestro.drafttable.supporting.csv.options.CustomizableWritingOptions;
+import com.cannestro.drafttable.supporting.options.FallbackPolicy;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
 import com.cannestro.drafttable.supporting.utils.FileUtils;
 import com.cannestro.drafttable.helper.PayDetails;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import static com.cannestro.drafttable.Constants.TEST_CSV_DIRECTORY;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 
 
@@ -33,6 +46,84 @@ public class DraftTableFromCsvTest {
         Assert.assertEquals(df.columnCount(), 11);
     }
 
+    @Test
+    public void everyDataRowIsLoadedInHeaderOrder() {
+        DraftTable df = FlexibleDraftTable.create().fromCsv().at(Path.of(TEST_CSV_DIRECTORY.concat("some_tornadoes.csv")));
+
+        Assert.assertEquals(df.rowCount(), 10);
+        Assert.assertEquals(df.columnNames().get(0), "Start Lon");
+        Assert.assertEquals(df.select("Start Lon").firstValue().get(), "-90.22");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void jaggedRecordsRaiseException() {
+        FlexibleDraftTable.create().fromCsv().at(Path.of(TEST_CSV_DIRECTORY.concat("temp_5.csv")));
+    }
+
+    @Test
+    public void inferredColumnsAreParsedOnceIntoTypedColumns() {
+        DraftTable df = FlexibleDraftTable.create().fromCsv().at(
+                Path.of(TEST_CSV_DIRECTORY.concat("some_tornadoes.csv")),
+                CustomizableParsingOptions.builder().typeInference(TypeInferenceOptions.allDefaults()).build()
+        );
+
+        Assert.assertTrue(df.select("Start Lon") instanceof DoubleColumn);
+        Assert.assertEquals(df.select("Date").dataType(), LocalDate.class);
+        Assert.assertEquals(df.select("Time").dataType(), LocalTime.class);
+        Assert.assertEquals(df.select("State").dataType(), String.class);
+        Assert.assertEquals(df.where("Fatalities", greaterThan(0.0)).rowCount(), 2);
+    }
+
+    @Test
+    public void repetitiveTextColumnsAreDictionaryEncodedWhenInferring() {
+        Path path = Path.of(TEST_CSV_DIRECTORY.concat("some_tornadoes.csv"));
+        DraftTable encoded = FlexibleDraftTable.create().fromCsv().at(
+                path,
+                CustomizableParsingOptions.builder().typeInference(TypeInferenceOptions.allDefaults()).build()
+        );
+        DraftTable plain = FlexibleDraftTable.create().fromCsv().at(
+                path,
+                CustomizableParsingOptions.builder().typeInference(TypeInferenceOptions.builder().dictionaryEncodingRatio(0.0).build()).build()
+        );
+
+        Assert.assertTrue(encoded.select("State") instanceof DictionaryColumn);
+        Assert.assertFalse(plain.select("State") instanceof DictionaryColumn);
+        Assert.assertEquals(encoded, plain);
+    }
+
+    @Test
+    public void fallbackPoliciesApplyToValuesBeyondTheSample() {
+        Path path = Path.of(TEST_CSV_DIRECTORY.concat("temp_6.csv"));
+
+        DraftTable widened = FlexibleDraftTable.create().fromCsv().at(path, inferring(FallbackPolicy.WIDEN));
+        DraftTable nulled = FlexibleDraftTable.create().fromCsv().at(path, inferring(FallbackPolicy.NULL));
+
+        Assert.assertTrue(widened.select("n") instanceof DoubleColumn);
+        Assert.assertEquals(widened.select("n").values(), asList(1.0, null, 2.5));
+        Assert.assertTrue(nulled.select("n") instanceof IntColumn);
+        Assert.assertEquals(nulled.select("n").values(), asList(1, null, null));
+        Assert.assertEquals(nulled.select("flag").values(), asList(true, false, true));
+    }
+
+    @Test
+    public void identifiersThatLookNumericStayText() {
+        DraftTable df = FlexibleDraftTable.create().fromCsv().at(
+                Path.of(TEST_CSV_DIRECTORY.concat("temp_7.csv")),
+                CustomizableParsingOptions.builder().typeInference(TypeInferenceOptions.allDefaults()).build()
+        );
+
+        Assert.assertEquals(df.select("zip").values(), List.of("00501", "10001", "02134"));
+        Assert.assertEquals(df.select("offset").values(), List.of("+1", "2", "-3"));
+        Assert.assertTrue(df.select("count") instanceof IntColumn);
+        Assert.assertEquals(df.select("count").values(), List.of(0, -10, 7));
+        Assert.assertTrue(df.select("rate") instanceof DoubleColumn);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void failingFallbackPolicyRaisesException() {
+        FlexibleDraftTable.create().fromCsv().at(Path.of(TEST_CSV_DIRECTORY.concat("temp_6.csv")), inferring(FallbackPolicy.FAIL));
+    }
+
     @Test
     public void endToEndDataFrameCsvTest() {
         List<String> headers = List.of("type", "rate", "period", "workHours");
@@ -76,10 +167,26 @@ public class DraftTableFromCsvTest {
         );
     }
 
+    @BeforeClass
+    public void setUp() throws IOException {
+        Files.writeString(Path.of(TEST_CSV_DIRECTORY.concat("temp_5.csv")), "a,b\n1,2\n3\n");
+        Files.writeString(Path.of(TEST_CSV_DIRECTORY.concat("temp_6.csv")), "n,flag\n1,true\n,FALSE\n2.5,true\n");
+        Files.writeString(Path.of(TEST_CSV_DIRECTORY.concat("temp_7.csv")), "zip,offset,count,rate\n00501,+1,0,0.5\n10001,2,-10,-0.25\n02134,-3,7,1\n");
+    }
+
+    private static CustomizableParsingOptions inferring(FallbackPolicy fallbackPolicy) {
+        return CustomizableParsingOptions.builder()
+                .typeInference(TypeInferenceOptions.builder().sampleSize(1).fallbackPolicy(fallbackPolicy).build())
+                .build();
+    }
+
     @AfterClass(alwaysRun = true)
     public void cleanUp() {
         FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_3.csv"));
         FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_4.csv"));
+        FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_5.csv"));
+        FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_6.csv"));
+        FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_7.csv"));
     }
 
 }
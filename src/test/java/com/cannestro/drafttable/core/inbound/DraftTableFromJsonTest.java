@@ -0,0 +1,102 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.columns.IntColumn;
+import com.cannestro.drafttable.core.columns.LongColumn;
+import com.cannestro.drafttable.core.columns.DoubleColumn;
+import com.cannestro.drafttable.core.rows.Mappable;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.TypeInferenceOptions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+
+
+@Test(groups = {"component"})
+public class DraftTableFromJsonTest {
+
+    private Path events;
+    private Path singleEvent;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        events = Files.createTempFile("events", ".json");
+        Files.writeString(events, """
+                [
+                  {"id": 1, "kind": "open", "score": 2, "day": "2024-01-31", "tags": ["a"]},
+                  {"id": 2, "kind": "close", "score": 2.5, "day": "2024-02-01"},
+                  {"id": 3000000000, "kind": "open", "day": null, "extra": true}
+                ]
+                """);
+        singleEvent = Files.createTempFile("event", ".json");
+        Files.writeString(singleEvent, "{\"id\": 7, \"kind\": \"open\"}");
+    }
+
+    @Test
+    public void schemaLessArraysKeepJsonNativeTypes() {
+        DraftTable dt = new DefaultJsonLoader().at(events);
+
+        Assert.assertEquals(dt.columnNames(), List.of("id", "kind", "score", "day", "tags", "extra"));
+        Assert.assertTrue(dt.select("id") instanceof LongColumn);
+        Assert.assertEquals(dt.select("id").values(), List.of(1L, 2L, 3000000000L));
+        Assert.assertTrue(dt.select("score") instanceof DoubleColumn);
+        Assert.assertEquals(dt.select("score").values(), asList(2.0, 2.5, null));
+        Assert.assertEquals(dt.select("day").values(), asList("2024-01-31", "2024-02-01", null));
+        Assert.assertEquals(dt.select("tags").values(), asList(List.of("a"), null, null));
+        Assert.assertEquals(dt.select("extra").values(), asList(null, null, true));
+    }
+
+    @Test
+    public void textColumnsAreInferredWhenRequested() {
+        DraftTable dt = new DefaultJsonLoader().at(events, TypeInferenceOptions.builder().build());
+
+        Assert.assertEquals(dt.select("day").values(), asList(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1), null));
+        Assert.assertEquals(dt.select("kind").values(), List.of("open", "close", "open"));
+    }
+
+    @Test
+    public void singleObjectsAreReadAsOneRow() {
+        DraftTable dt = FlexibleDraftTable.create().fromJsonArray().at(singleEvent, Event.class);
+
+        Assert.assertEquals(dt.rowCount(), 1);
+        Assert.assertTrue(dt.select("id") instanceof IntColumn);
+        Assert.assertEquals(dt.select("kind").values(), List.of("open"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void elementsMustBeObjects() throws IOException {
+        Path numbers = Files.createTempFile("numbers", ".json");
+        Files.writeString(numbers, "[1, 2]");
+        try {
+            new DefaultJsonLoader().at(numbers);
+        } finally {
+            Files.deleteIfExists(numbers);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(events);
+        Files.deleteIfExists(singleEvent);
+    }
+
+    public record Event(Integer id, String kind) implements Mappable {
+
+        @Override
+        public Map<String, ?> asMap() {
+            return Map.of("id", id, "kind", kind);
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+
+
+@Test(groups = {"component"})
+public class JsonLinesLoaderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).sequentialThreshold(64).build();
+    private File directory;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ndjson").toFile();
+    }
+
+    @Test
+    public void rowsWrittenAsLinesAreLoadedBackInParallelInOrder() throws IOException {
+        DraftTable events = FlexibleDraftTable.create().fromColumnValues(
+                List.of("id", "kind"),
+                List.of(
+                        IntStream.range(0, 500).boxed().toList(),
+                        IntStream.range(0, 500).mapToObj(idx -> idx % 3 == 0 ? "open" : "close").toList()
+                )
+        );
+        File file = new File(directory, "events.ndjson");
+        events.write().toJsonLines(file);
+
+        Assert.assertEquals(
+                Files.readString(file.toPath()),
+                IntStream.range(0, 500)
+                        .mapToObj(idx -> String.format("{\"id\":%d,\"kind\":\"%s\"}\n", idx, idx % 3 == 0 ? "open" : "close"))
+                        .collect(Collectors.joining())
+        );
+
+        DraftTable reloaded = new JsonLinesLoader(parallelOptions).at(file.toPath());
+        Assert.assertEquals(reloaded.columnNames(), List.of("id", "kind"));
+        Assert.assertEquals(reloaded.select("id").values(), events.select("id").values());
+        Assert.assertEquals(reloaded.select("kind").values(), events.select("kind").values());
+    }
+
+    @Test
+    public void fieldsMissingFromSomeLinesAreNull() throws IOException {
+        Path file = directory.toPath().resolve("sparse.jsonl");
+        StringBuilder lines = new StringBuilder();
+        for (int idx = 0; idx < 200; idx++) {
+            lines.append(idx == 150 ? "{\"id\": 150, \"late\": 2.5}" : "{\"id\": " + idx + "}").append("\n");
+            if (idx == 10) {
+                lines.append("\n");
+            }
+        }
+        Files.writeString(file, lines.toString());
+
+        DraftTable dt = new JsonLinesLoader(parallelOptions).at(file);
+
+        Assert.assertEquals(dt.rowCount(), 200);
+        Assert.assertEquals(dt.columnNames(), List.of("id", "late"));
+        Assert.assertEquals(dt.select("late").values().get(150), 2.5);
+        Assert.assertEquals(dt.select("late").values().subList(148, 152), asList(null, null, 2.5, null));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void everyLineMustHoldAnObject() throws IOException {
+        Path file = directory.toPath().resolve("arrays.ndjson");
+        Files.writeString(file, "{\"id\": 1}\n[2]\n");
+
+        FlexibleDraftTable.create().fromJsonLines().at(file);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exportsRequireAJsonLinesExtension() {
+        FlexibleDraftTable.create().fromColumnValues(List.of("id"), List.of(List.of(1)))
+                .write()
+                .toJsonLines(new File(directory, "events.json"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() throws IOException {
+        pool.shutdown();
+        FileUtils.deleteDirectory(directory);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.cannestro.drafttable.core.inbound;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.csv.options.CustomizableParsingOptions;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import com.cannestro.drafttable.supporting.utils.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.cannestro.drafttable.Constants.TEST_CSV_DIRECTORY;
+
+
+@Test(groups = {"component"})
+public class ParallelCsvLoaderTest {
+
+    private static final String QUOTED_CSV = TEST_CSV_DIRECTORY.concat("temp_parallel_quoted.csv");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelCsvLoader loader = new ParallelCsvLoader(
+            ParallelOptions.builder().pool(pool).sequentialThreshold(1).build()
+    );
+
+    @Test
+    public void parallelLoadMatchesSequentialLoad() {
+        Path path = Path.of(TEST_CSV_DIRECTORY.concat("tornadoes_1950-2014.csv"));
+
+        DraftTable parallel = loader.at(path, CustomizableParsingOptions.allDefaults());
+        DraftTable sequential = new DefaultCsvLoader().at(path, CustomizableParsingOptions.allDefaults());
+
+        Assert.assertEquals(parallel.rowCount(), sequential.rowCount());
+        Assert.assertEquals(parallel.columnNames(), sequential.columnNames());
+        Assert.assertEquals(parallel.columns(), sequential.columns());
+    }
+
+    @Test
+    public void quotedFieldsSpanningSegmentsAreKeptWhole() {
+        DraftTable dt = loader.at(Path.of(QUOTED_CSV));
+
+        Assert.assertEquals(dt.columnNames(), List.of("id", "note"));
+        Assert.assertEquals(dt.rowCount(), 4);
+        Assert.assertEquals(
+                dt.select("note").values(),
+                List.of("plain", "with, comma", "spans\nlines", "say \"hi\"")
+        );
+        Assert.assertEquals(dt.columns(), new DefaultCsvLoader().at(Path.of(QUOTED_CSV), CustomizableParsingOptions.allDefaults()).columns());
+    }
+
+    @Test
+    public void skippedLinesPrecedeTheHeader() {
+        DraftTable dt = loader.at(Path.of(QUOTED_CSV), CustomizableParsingOptions.builder().skipLines(2).build());
+
+        Assert.assertEquals(dt.columnNames(), List.of("2", "with, comma"));
+        Assert.assertEquals(dt.rowCount(), 2);
+    }
+
+    @Test
+    public void unsupportedOptionsFallBackToSequentialParsing() {
+        DraftTable dt = loader.at(Path.of(QUOTED_CSV), CustomizableParsingOptions.builder().ignoreLeadingWhiteSpace(true).build());
+
+        Assert.assertEquals(dt.rowCount(), 4);
+    }
+
+    @Test
+    public void canBeCreatedReflectively() {
+        DraftTable dt = FlexibleDraftTable.create()
+                .fromCsv(ParallelCsvLoader.class)
+                .at(Path.of(TEST_CSV_DIRECTORY.concat("no_tornadoes.csv")));
+
+        Assert.assertEquals(dt.rowCount(), 0);
+    }
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        Files.writeString(
+                Path.of(QUOTED_CSV),
+                "id,note\r\n1,plain\r\n2,\"with, comma\"\r\n3,\"spans\nlines\"\r\n4,\"say \"\"hi\"\"\"\r\n"
+        );
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        FileUtils.deleteFileIfPresent(QUOTED_CSV);
+        pool.shutdown();
+    }
+
+}
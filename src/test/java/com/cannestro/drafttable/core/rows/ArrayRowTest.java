@@ -0,0 +1,70 @@
+package com.cannestro.drafttable.core.rows;
+
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.helper.DailyHireCount;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+
+@Test(groups = {"component"})
+public class ArrayRowTest {
+
+    private static final RowSchema SCHEMA = RowSchema.of(List.of("n", "timeStamp"));
+
+    @Test
+    public void valuesAreFoundByNameAndPosition() {
+        ArrayRow row = ArrayRow.from(SCHEMA, List.of(100, "2023-01-01"));
+
+        Assert.assertEquals(row.keys(), List.of("n", "timeStamp"));
+        Assert.assertEquals((int) row.valueOf("n"), 100);
+        Assert.assertEquals((String) row.valueAt(1), "2023-01-01");
+        Assert.assertNull(row.valueOf("missing"));
+        Assert.assertFalse(row.hasKey("missing"));
+    }
+
+    @Test
+    public void rowsAreEqualToHashMapRowsWithTheSameValues() {
+        ArrayRow row = ArrayRow.from(SCHEMA, Arrays.asList(100, null));
+        HashMapRow hashMapRow = HashMapRow.from(List.of("timeStamp", "n"), Arrays.asList(null, 100));
+
+        Assert.assertEquals(row, hashMapRow);
+        Assert.assertEquals(hashMapRow, row);
+        Assert.assertEquals(row.hashCode(), hashMapRow.hashCode());
+    }
+
+    @Test
+    public void canMapBackIntoOriginatingType() {
+        DailyHireCount hireCount = new DailyHireCount(100, LocalDate.of(2023, 1, 1));
+
+        Assert.assertEquals(ArrayRow.from(SCHEMA, hireCount.asMap()).as(DailyHireCount.class), hireCount);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void valuesMustMatchTheSchema() {
+        ArrayRow.from(SCHEMA, List.of(100));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void keysMustMatchTheSchema() {
+        ArrayRow.from(SCHEMA, Map.of("n", 100, "date", "2023-01-01"));
+    }
+
+    @Test
+    public void rowsOfATableShareOneSchema() {
+        DraftTable dt = FlexibleDraftTable.create().fromRowValues(
+                List.of("name", "count"),
+                List.of(List.of("a", 1), List.of("b", 2))
+        );
+        List<Row> rows = dt.rows();
+
+        Assert.assertEquals(dt.columnNames(), List.of("name", "count"));
+        Assert.assertSame(((ArrayRow) rows.get(0)).schema(), ((ArrayRow) rows.get(1)).schema());
+    }
+
+}
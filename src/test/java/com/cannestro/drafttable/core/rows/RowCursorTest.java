@@ -0,0 +1,88 @@
+package com.cannestro.drafttable.core.rows;
+
+import com.cannestro.drafttable.core.columns.Column;
+import com.cannestro.drafttable.core.columns.Columns;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+
+@Test(groups = {"component"})
+public class RowCursorTest {
+
+    @Test
+    public void cursorVisitsEveryRowInOrder() {
+        RowCursor cursor = RowCursor.over(columns());
+        List<String> visited = new ArrayList<>();
+
+        while (cursor.next()) {
+            visited.add(cursor.<String>valueOf("name") + cursor.<Integer>valueAt(1));
+        }
+
+        Assert.assertEquals(visited, List.of("a1", "b2", "null3"));
+        Assert.assertEquals(cursor.position(), 2);
+    }
+
+    @Test
+    public void cursorExposesRowByNameAndPosition() {
+        RowCursor cursor = RowCursor.over(columns()).moveTo(1);
+
+        Assert.assertEquals(cursor.keys(), List.of("name", "count"));
+        Assert.assertTrue(cursor.hasKey("count"));
+        Assert.assertEquals((String) cursor.valueOf("name"), "b");
+        Assert.assertNull(cursor.valueOf("missing"));
+        Assert.assertEquals(cursor.valueMap(), Map.of("name", "b", "count", 2));
+    }
+
+    @Test
+    public void snapshotsAreUnaffectedByLaterMoves() {
+        RowCursor cursor = RowCursor.over(columns()).moveTo(0);
+        Row snapshot = cursor.snapshot();
+
+        cursor.moveTo(2);
+
+        Assert.assertEquals((String) snapshot.valueOf("name"), "a");
+        Assert.assertNull(cursor.valueOf("name"));
+    }
+
+    @Test
+    public void cursorsEqualRowsOfOtherImplementationsBothWays() {
+        RowCursor cursor = RowCursor.over(columns()).moveTo(1);
+        Row hashMapRow = new HashMapRow(Map.of("name", "b", "count", 2));
+
+        Assert.assertEquals(cursor, hashMapRow);
+        Assert.assertEquals(hashMapRow, cursor);
+        Assert.assertEquals(cursor, cursor.snapshot());
+        Assert.assertEquals(cursor.hashCode(), hashMapRow.hashCode());
+        Assert.assertNotEquals(cursor.moveTo(0), hashMapRow);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void cannotMoveBeyondLastRow() {
+        RowCursor.over(columns()).moveTo(3);
+    }
+
+    @Test
+    public void forEachRowMatchesRows() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumns(columns());
+        List<Map<String, ?>> visited = new ArrayList<>();
+
+        dt.forEachRow(row -> visited.add(row.valueMap()));
+
+        Assert.assertEquals(visited, dt.rows().stream().map(Row::valueMap).toList());
+    }
+
+    private static List<Column> columns() {
+        return List.of(
+                Columns.bestFitFor("name", Arrays.asList("a", "b", null)),
+                Columns.bestFitFor("count", List.of(1, 2, 3))
+        );
+    }
+
+}
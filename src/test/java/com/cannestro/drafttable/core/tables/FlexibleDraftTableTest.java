@@ -7,6 +7,8 @@ import com.cannestro.drafttable.helper.EmploymentContract;
 import com.cannestro.drafttable.helper.PayDetails;
 import com.cannestro.drafttable.core.columns.Column;
 import com.cannestro.drafttable.core.rows.Row;
+import com.cannestro.drafttable.core.options.SortingOrderType;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -15,6 +17,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static com.cannestro.drafttable.core.options.Item.*;
 import static com.cannestro.drafttable.core.options.Items.*;
@@ -129,6 +133,35 @@ public class FlexibleDraftTableTest {
         Assert.assertFalse(exampleDraftTableFromColumns().hasColumn("INVALID"));
     }
 
+    @Test
+    public void renamingASelectedColumnLeavesTheTableUnchanged() {
+        DraftTable dt = exampleDraftTableFromColumns();
+
+        Column renamed = dt.select("contractType").renameAs("CONTRACT_TYPE");
+
+        Assert.assertEquals(renamed.label(), "CONTRACT_TYPE");
+        Assert.assertTrue(dt.hasColumn("contractType"));
+        Assert.assertFalse(dt.hasColumn("CONTRACT_TYPE"));
+        Assert.assertEquals(dt.select("contractType").values(), renamed.values());
+    }
+
+    @Test
+    public void columnLookupsFollowCustomColumnsRelabelledInPlace() {
+        Column custom = new InPlaceRenamingColumn("contractType", List.of("full-time", "part-time"));
+        DraftTable dt = FlexibleDraftTable.create().fromColumns(List.of(
+                custom,
+                FlexibleColumn.from("payType", List.of("salary", "hourly"))
+        ));
+
+        DraftTable renamed = dt.rename(these("contractType"), using("CONTRACT_TYPE"));
+
+        for (DraftTable table : List.of(dt, renamed)) {
+            Assert.assertFalse(table.hasColumn("contractType"));
+            Assert.assertSame(table.select("CONTRACT_TYPE"), custom);
+            Assert.assertEquals(table.drop("CONTRACT_TYPE").columnNames(), List.of("payType"));
+        }
+    }
+
     @Test
     public void canFilterRowsBySingleColumnsMatchingValue() {
         DraftTable filteredDataFame = exampleDraftTableFromColumns().where("contractType", containsString("full"));
@@ -692,6 +725,74 @@ public class FlexibleDraftTableTest {
         );
     }
 
+    @Test
+    public void sortingPutsNullsFirstAndKeepsTiesInRowOrder() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                List.of("score", "name"),
+                List.of(asList(2, null, 1, 2, 1), List.of("a", "b", "c", "d", "e"))
+        );
+
+        DraftTable ascending = dt.orderBy("score", ASCENDING);
+        DraftTable descending = dt.orderBy("score", DESCENDING);
+
+        Assert.assertEquals(ascending.select("score").values(), asList(null, 1, 1, 2, 2));
+        Assert.assertEquals(ascending.select("name").values(), List.of("b", "c", "e", "a", "d"));
+        Assert.assertEquals(descending.select("score").values(), asList(2, 2, 1, 1, null));
+        Assert.assertEquals(descending.select("name").values(), List.of("a", "d", "c", "e", "b"));
+    }
+
+    @Test
+    public void parallelSortingKeepsTheMultiKeyOrdering() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                    List.of("group", "score", "id"),
+                    List.of(
+                            IntStream.range(0, 3000).mapToObj(idx -> "g" + idx % 5).toList(),
+                            IntStream.range(0, 3000).mapToObj(idx -> idx % 17 == 0 ? null : idx % 23).toList(),
+                            IntStream.range(0, 3000).boxed().toList()
+                    )
+            );
+            ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).sequentialThreshold(1).build();
+
+            Assert.assertEquals(
+                    dt.orderBy(using("group", "score"), DESCENDING, parallelOptions).select("id").values(),
+                    dt.orderBy(using("group", "score"), DESCENDING).select("id").values()
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void topByMatchesTheTopOfAFullSort() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                    List.of("score", "id"),
+                    List.of(
+                            IntStream.range(0, 5000).mapToObj(idx -> idx % 13 == 0 ? null : idx * 7919 % 50).toList(),
+                            IntStream.range(0, 5000).boxed().toList()
+                    )
+            );
+            ParallelOptions parallelOptions = ParallelOptions.builder().pool(pool).sequentialThreshold(1).build();
+
+            for (SortingOrderType order : SortingOrderType.values()) {
+                List<Object> expected = dt.orderBy("score", order).top(20).select("id").values();
+                Assert.assertEquals(dt.topBy(using("score"), order, 20).select("id").values(), expected);
+                Assert.assertEquals(dt.topBy(using("score"), order, 20, parallelOptions).select("id").values(), expected);
+            }
+            Assert.assertEquals(dt.topBy(using("score"), ASCENDING, 10_000).rowCount(), 5000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void topByRejectsNegativeRowCounts() {
+        exampleDraftTableFromColumns().topBy(using("contractType"), ASCENDING, -1);
+    }
+
     @Test
     public void canSortByRowComparator() {
         DraftTable sortedFrame = exampleDraftTableFromColumnValues()
@@ -981,4 +1082,30 @@ public class FlexibleDraftTableTest {
         );
     }
 
+
+    /**
+     * A user-defined column whose {@code renameAs} relabels the instance itself instead of returning a new one.
+     */
+    static class InPlaceRenamingColumn extends FlexibleColumn {
+
+        private String label;
+
+        InPlaceRenamingColumn(String label, List<?> values) {
+            super(label, values);
+            this.label = label;
+        }
+
+        @Override
+        public String label() {
+            return label;
+        }
+
+        @Override
+        public Column renameAs(String newLabel) {
+            this.label = newLabel;
+            return this;
+        }
+
+    }
+
 }
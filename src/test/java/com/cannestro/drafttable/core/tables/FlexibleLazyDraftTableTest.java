@@ -0,0 +1,111 @@
+package com.cannestro.drafttable.core.tables;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+@Test(groups = {"component"})
+public class FlexibleLazyDraftTableTest {
+
+    @Test
+    public void collectingMatchesTheEagerPipeline() {
+        DraftTable dt = exampleDraftTable();
+
+        Assert.assertEquals(
+                dt.lazy().where("magnitude", greaterThan(2)).where("state", is("TX")).select("state", "magnitude").top(2).collect(),
+                dt.where("magnitude", greaterThan(2)).where("state", is("TX")).select("state", "magnitude").top(2)
+        );
+    }
+
+    @Test
+    public void topBeforeWhereOnlyFiltersTheLeadingRows() {
+        DraftTable dt = exampleDraftTable();
+
+        Assert.assertEquals(
+                dt.lazy().top(3).where("state", is("TX")).collect(),
+                dt.top(3).where("state", is("TX"))
+        );
+    }
+
+    @Test
+    public void topStopsTheScanEarly() {
+        int[] evaluations = {0};
+        DraftTable dt = exampleDraftTable();
+
+        DraftTable result = dt.lazy()
+                .where("magnitude", Integer::intValue, both(greaterThan(0)).and(new CountingMatcher(evaluations)))
+                .top(2)
+                .collect();
+
+        Assert.assertEquals(result.rowCount(), 2);
+        Assert.assertEquals(evaluations[0], 2);
+    }
+
+    @Test
+    public void droppedColumnsCanStillBeFilteredOnBeforehand() {
+        DraftTable result = exampleDraftTable().lazy()
+                .where("state", is("CA"))
+                .drop("state")
+                .collect();
+
+        Assert.assertEquals(result.columnNames(), List.of("magnitude"));
+        Assert.assertEquals(result.select("magnitude").values(), List.of(1, 5));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void filteringOnADroppedColumnThrowsException() {
+        exampleDraftTable().lazy().drop("state").where("state", is("CA"));
+    }
+
+    @Test
+    public void droppingEveryColumnCollectsAnEmptyTable() {
+        Assert.assertTrue(exampleDraftTable().lazy().drop("state", "magnitude").collect().isCompletelyEmpty());
+    }
+
+    @Test
+    public void explainListsEveryRecordedStep() {
+        String plan = exampleDraftTable().lazy().where("state", is("TX")).top(5).select("state").explain();
+
+        assertThat(plan, stringContainsInOrder("scan important_data", "where state", "top 5", "project [state]"));
+    }
+
+    private static DraftTable exampleDraftTable() {
+        return FlexibleDraftTable.create().fromColumnValues(
+                List.of("state", "magnitude"),
+                List.of(
+                        List.of("TX", "CA", "TX", "OK", "TX", "CA", "TX"),
+                        List.of(3, 1, 4, 2, 1, 5, 9)
+                )
+        );
+    }
+
+
+    private static class CountingMatcher extends BaseMatcher<Integer> {
+
+        private final int[] evaluations;
+
+        CountingMatcher(int[] evaluations) {
+            this.evaluations = evaluations;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            evaluations[0]++;
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("counted");
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.aggregations.Aggregation;
+import com.cannestro.drafttable.core.options.Items;
+import com.cannestro.drafttable.supporting.options.ParallelOptions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+@Test(groups = {"component"})
+public class FlexibleTableGroupingTest {
+
+    @Test
+    public void groupsAppearInOrderOfFirstRow() {
+        DraftTable dt = sales().groupBy("city").counts();
+
+        Assert.assertEquals(dt.columnNames(), List.of("city", "count"));
+        Assert.assertEquals(dt.select("city").values(), Arrays.asList("Oslo", "Lima", null));
+        Assert.assertEquals(dt.select("count").values(), List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    public void compositeKeysGroupOnEveryColumn() {
+        DraftTable dt = sales().groupBy(Items.of("city", "year")).agg(Aggregation.sum("units"));
+
+        Assert.assertEquals(dt.rowCount(), 5);
+        Assert.assertEquals(dt.select("year").values(), List.of(2020, 2020, 2021, 2021, 2020));
+        Assert.assertEquals(dt.select("sum(units)").values(), Arrays.asList(4L, 8L, 2L, null, 1L));
+    }
+
+    @Test
+    public void builtInAggregationsSkipNulls() {
+        DraftTable dt = sales().groupBy("city").agg(
+                Aggregation.count("units"),
+                Aggregation.mean("units"),
+                Aggregation.min("units"),
+                Aggregation.max("units").as("best"),
+                Aggregation.first("year"),
+                Aggregation.last("units")
+        );
+
+        Assert.assertEquals(dt.select("count(units)").values(), List.of(3L, 1L, 1L));
+        Assert.assertEquals(dt.select("mean(units)").values(), List.of(2.0, 8.0, 1.0));
+        Assert.assertEquals(dt.select("min(units)").values(), List.of(1, 8, 1));
+        Assert.assertEquals(dt.select("best").values(), List.of(3, 8, 1));
+        Assert.assertEquals(dt.select("first(year)").values(), List.of(2020, 2020, 2020));
+        Assert.assertEquals(dt.select("last(units)").values(), List.of(2, 8, 1));
+    }
+
+    @Test
+    public void customCollectorsReceiveEveryValue() {
+        DraftTable dt = sales().groupBy("city").agg(
+                Aggregation.using("units", Collectors.mapping(String::valueOf, Collectors.joining("|"))).as("units")
+        );
+
+        Assert.assertEquals(dt.select("units").values(), List.of("3|1|2", "8|null", "1"));
+    }
+
+    @Test
+    public void sumsOfRealNumbersAreDoubles() {
+        DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                List.of("key", "value"),
+                List.of(List.of("a", "a"), List.of(1.5, 2.0))
+        ).groupBy("key").agg(Aggregation.sum("value"));
+
+        Assert.assertEquals(dt.select("sum(value)").values(), List.of(3.5));
+    }
+
+    @Test
+    public void parallelAggregationMatchesSequentialAggregation() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DraftTable dt = FlexibleDraftTable.create().fromColumnValues(
+                    List.of("key", "value"),
+                    List.of(
+                            IntStream.range(0, 10_000).mapToObj(i -> "k" + (i * 31 % 97)).toList(),
+                            IntStream.range(0, 10_000).boxed().toList()
+                    )
+            );
+            Aggregation[] aggregations = {Aggregation.count(), Aggregation.sum("value"), Aggregation.first("value"), Aggregation.last("value")};
+
+            DraftTable parallel = dt.groupBy("key")
+                    .inParallel(ParallelOptions.builder().pool(pool).sequentialThreshold(1).build())
+                    .agg(aggregations);
+
+            Assert.assertEquals(parallel.rowCount(), 97);
+            Assert.assertEquals(parallel.columns(), dt.groupBy("key").agg(aggregations).columns());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void outputNamesMustNotClashWithKeys() {
+        sales().groupBy("city").agg(Aggregation.count().as("city"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownKeyColumnsAreRejected() {
+        sales().groupBy("town");
+    }
+
+    private static DraftTable sales() {
+        return FlexibleDraftTable.create().fromColumnValues(
+                List.of("city", "year", "units"),
+                List.of(
+                        Arrays.asList("Oslo", "Oslo", "Lima", "Oslo", "Lima", null),
+                        List.of(2020, 2020, 2020, 2021, 2021, 2020),
+                        Arrays.asList(3, 1, 8, 2, null, 1)
+                )
+        );
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.cannestro.drafttable.core.tables;
+
+import com.cannestro.drafttable.core.options.Items;
+import com.cannestro.drafttable.core.options.JoinType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+@Test(groups = {"component"})
+public class HashJoinTest {
+
+    @Test
+    public void innerJoinKeepsMatchingPairsInLeftOrder() {
+        DraftTable dt = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.INNER);
+
+        Assert.assertEquals(dt.columnNames(), List.of("orderId", "customerId", "name"));
+        Assert.assertEquals(dt.select("orderId").values(), List.of(10, 11, 12));
+        Assert.assertEquals(dt.select("name").values(), List.of("Ada", "Grace", "Ada"));
+    }
+
+    @Test
+    public void leftJoinKeepsUnmatchedLeftRowsInPlace() {
+        DraftTable dt = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.LEFT);
+
+        Assert.assertEquals(dt.select("orderId").values(), List.of(10, 11, 12, 13, 14));
+        Assert.assertEquals(dt.select("name").values(), Arrays.asList("Ada", "Grace", "Ada", null, null));
+    }
+
+    @Test
+    public void fullJoinAppendsUnmatchedRightRowsWithCoalescedKeys() {
+        DraftTable dt = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.FULL);
+
+        Assert.assertEquals(dt.rowCount(), 6);
+        Assert.assertEquals(dt.select("orderId").values(), Arrays.asList(10, 11, 12, 13, 14, null));
+        Assert.assertEquals(dt.select("customerId").values(), Arrays.asList(1, 2, 1, 4, null, 3));
+        Assert.assertEquals(dt.select("name").values(), Arrays.asList("Ada", "Grace", "Ada", null, null, "Edsger"));
+    }
+
+    @Test
+    public void resultDoesNotDependOnWhichSideIsSmaller() {
+        DraftTable smallLeft = customers().join(orders(), Items.of("id"), Items.of("customerId"), JoinType.RIGHT);
+        DraftTable smallRight = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.LEFT);
+
+        Assert.assertEquals(smallLeft.rowCount(), 5);
+        Assert.assertEquals(smallLeft.select("orderId").values(), List.of(10, 12, 11, 13, 14));
+        Assert.assertEquals(smallLeft.select("id").values(), Arrays.asList(1, 1, 2, 4, null));
+        Assert.assertEquals(smallRight.select("orderId").values(), List.of(10, 11, 12, 13, 14));
+    }
+
+    @Test
+    public void semiAndAntiJoinsPartitionTheLeftRows() {
+        DraftTable semi = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.SEMI);
+        DraftTable anti = orders().join(customers(), Items.of("customerId"), Items.of("id"), JoinType.ANTI);
+
+        Assert.assertEquals(semi.columnNames(), List.of("orderId", "customerId"));
+        Assert.assertEquals(semi.select("orderId").values(), List.of(10, 11, 12));
+        Assert.assertEquals(anti.select("orderId").values(), List.of(13, 14));
+    }
+
+    @Test
+    public void compositeKeysMatchOnEveryColumn() {
+        DraftTable left = FlexibleDraftTable.create().fromColumnValues(
+                List.of("city", "year", "sales"),
+                List.of(List.of("Oslo", "Oslo", "Lima"), List.of(2020, 2021, 2020), List.of(5, 6, 7))
+        );
+        DraftTable right = FlexibleDraftTable.create().fromColumnValues(
+                List.of("city", "year", "rain"),
+                List.of(List.of("Oslo", "Lima", "Lima"), List.of(2021, 2020, 2021), List.of(0.5, 0.1, 0.2))
+        );
+
+        DraftTable dt = left.join(right, Items.of("city", "year"), JoinType.INNER);
+
+        Assert.assertEquals(dt.columnNames(), List.of("city", "year", "sales", "rain"));
+        Assert.assertEquals(dt.select("sales").values(), List.of(6, 7));
+        Assert.assertEquals(dt.select("rain").values(), List.of(0.5, 0.1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void clashingColumnNamesAreRejected() {
+        orders().join(orders(), Items.of("orderId"), Items.of("orderId"), JoinType.INNER);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownKeyColumnsAreRejected() {
+        orders().join(customers(), Items.of("customer"), Items.of("id"), JoinType.INNER);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void keyColumnsOfDifferentTypesAreRejected() {
+        DraftTable accounts = FlexibleDraftTable.create().fromColumnValues(
+                List.of("id", "balance"),
+                List.of(List.of(1L, 2L, 3L), List.of(10.0, 20.0, 30.0))
+        );
+
+        orders().join(accounts, Items.of("customerId"), Items.of("id"), JoinType.INNER);
+    }
+
+    private static DraftTable orders() {
+        return FlexibleDraftTable.create().fromColumnValues(
+                List.of("orderId", "customerId"),
+                List.of(List.of(10, 11, 12, 13, 14), Arrays.asList(1, 2, 1, 4, null))
+        );
+    }
+
+    private static DraftTable customers() {
+        return FlexibleDraftTable.create().fromColumnValues(
+                List.of("id", "name"),
+                List.of(List.of(1, 2, 3), List.of("Ada", "Grace", "Edsger"))
+        );
+    }
+
+}
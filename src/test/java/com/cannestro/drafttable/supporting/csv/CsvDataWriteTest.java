@@ -3,6 +3,7 @@ package com.cannestro.drafttable.supporting.csv;
 import com.cannestro.drafttable.supporting.csv.implementation.CsvDataParser;
 import com.cannestro.drafttable.supporting.csv.implementation.CsvDataWriter;
 import com.cannestro.drafttable.supporting.csv.options.CustomizableWritingOptions;
+import com.cannestro.drafttable.supporting.csv.options.ValueFormatters;
 import com.cannestro.drafttable.supporting.utils.FileUtils;
 import com.cannestro.drafttable.helper.PayDetails;
 import org.testng.Assert;
@@ -10,7 +11,14 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import static com.cannestro.drafttable.Constants.TEST_CSV_DIRECTORY;
 
@@ -35,9 +43,33 @@ public class CsvDataWriteTest {
         );
     }
 
+    @Test
+    public void columnsAreStreamedThroughTheirFormatters() throws IOException {
+        File file = new File(TEST_CSV_DIRECTORY.concat("temp_2.csv"));
+        CustomizableWritingOptions options = CustomizableWritingOptions.builder()
+                .fillerValue("NULL")
+                .valueFormatters(ValueFormatters.defaults()
+                        .with(Double.class, value -> String.format(Locale.ROOT, "%.2f", value))
+                        .with(TemporalAccessor.class, DateTimeFormatter.BASIC_ISO_DATE::format))
+                .build();
+
+        CsvDataWriter.writeColumnsToCsv(
+                file,
+                List.of("rate", "start", "workHours"),
+                List.of(List.of(25.0, 18.5), Arrays.asList(LocalDate.of(2024, 1, 31), null), List.of(80, 40)),
+                options
+        );
+
+        Assert.assertEquals(
+                Files.readAllLines(file.toPath()),
+                List.of("rate,start,workHours", "25.00,20240131,80", "18.50,NULL,40")
+        );
+    }
+
     @AfterClass(alwaysRun = true)
     public void cleanUp() {
         FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_1.csv"));
+        FileUtils.deleteFileIfPresent(TEST_CSV_DIRECTORY.concat("temp_2.csv"));
     }
 
 }
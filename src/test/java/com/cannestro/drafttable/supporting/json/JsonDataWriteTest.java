@@ -0,0 +1,54 @@
+package com.cannestro.drafttable.supporting.json;
+
+import com.cannestro.drafttable.core.columns.IntColumn;
+import com.cannestro.drafttable.core.columns.FlexibleColumn;
+import com.cannestro.drafttable.core.tables.DraftTable;
+import com.cannestro.drafttable.core.tables.FlexibleDraftTable;
+import com.cannestro.drafttable.supporting.json.implementation.JsonDataWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+@Test(groups = {"component"})
+public class JsonDataWriteTest {
+
+    @Test
+    public void rowsAreWrittenInColumnOrderWithNativeTypes() {
+        String json = JsonDataWriter.writeColumnsToJsonString(
+                List.of("name", "hours", "start"),
+                List.of(List.of("Ada", "Bo"), Arrays.asList(40, null), List.of(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1)))
+        );
+
+        Assert.assertEquals(
+                json,
+                "[{\"name\":\"Ada\",\"hours\":40,\"start\":\"2024-01-31\"},{\"name\":\"Bo\",\"hours\":null,\"start\":\"2024-02-01\"}]"
+        );
+    }
+
+    @Test
+    public void tablesLargerThanAFlushBatchRoundTrip() {
+        int rowCount = 2 * JsonDataWriter.FLUSH_BATCH_SIZE + 1;
+        DraftTable dt = FlexibleDraftTable.create().fromColumns(List.of(
+                IntColumn.from("id", IntStream.range(0, rowCount).boxed().toList()),
+                new FlexibleColumn("even", IntStream.range(0, rowCount).mapToObj(idx -> idx % 2 == 0).toList())
+        ));
+
+        List<Map<String, Object>> rows = ObjectMapperManager.getInstance().defaultMapper()
+                .readValue(dt.write().toJsonString(), List.class);
+
+        Assert.assertEquals(rows.size(), rowCount);
+        Assert.assertEquals(rows.get(rowCount - 1), Map.of("id", rowCount - 1, "even", true));
+    }
+
+    @Test
+    public void emptyTablesAreWrittenAsEmptyArrays() {
+        Assert.assertEquals(FlexibleDraftTable.create().emptyDraftTable().write().toJsonString(), "[]");
+    }
+
+}